@@ -90,6 +90,9 @@ public final class CommonConfig implements Config {
     @Setting
     public final WorldCategory world = new WorldCategory();
 
+    @Setting
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     public static ConfigurationTransformation transformation() {
         return ConfigurationTransformation.versionedBuilder()
                 .addVersion(2, CommonConfig.buildOneToTwo())
@@ -55,4 +55,11 @@ public final class OptimizationCategory {
             + "to be generated on demand. This is a very safe optimization and\n"
             + "should usually remain enabled.")
     public boolean enableLazyDFU = true;
+
+    @Setting("inline-event-listener-filters")
+    @Comment("If enabled, annotated event listeners are generated as a single\n"
+            + "class per listener with their filters written directly into it,\n"
+            + "instead of a listener class delegating to a separate filter class\n"
+            + "that passes the filtered parameters around in an array.")
+    public boolean inlineEventListenerFilters = false;
 }
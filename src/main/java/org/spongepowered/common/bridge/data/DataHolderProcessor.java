@@ -30,6 +30,8 @@
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.common.data.DataUtil;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -43,15 +45,24 @@ public final class DataHolderProcessor {
     }
 
     public static <E> DataTransactionResult bridge$offer(final SpongeDataHolderBridge bridge, final Key<? extends Value<E>> key, final E value) {
+        return DataHolderProcessor.bridge$offerAll(bridge, Collections.singletonMap(key, value));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static DataTransactionResult bridge$offerAll(final SpongeDataHolderBridge bridge, final Map<? extends Key<?>, ?> values) {
         final DataManipulator.Mutable manipulator = bridge.bridge$getManipulator();
-        final Value.Immutable<E> immutableValue = manipulator.getValue(key).map(Value::asImmutable).orElse(null);
         final DataTransactionResult.Builder builder = DataTransactionResult.builder();
-        if (immutableValue != null) {
-            builder.replace(immutableValue);
+        for (final Map.Entry<? extends Key<?>, ?> entry : values.entrySet()) {
+            final Key key = entry.getKey();
+            final Value.Immutable<?> immutableValue = (Value.Immutable<?>) manipulator.getValue(key).map(v -> ((Value<?>) v).asImmutable()).orElse(null);
+            if (immutableValue != null) {
+                builder.replace(immutableValue);
+            }
+            manipulator.set(key, entry.getValue());
+            builder.success(((Value<?>) manipulator.getValue(key).get()).asImmutable());
         }
-        manipulator.set(key, value);
-        builder.success(manipulator.getValue(key).get().asImmutable());
 
+        // Only serialize the custom data once for all the offered values
         DataUtil.syncDataToTag(bridge);
 
         return builder.result(DataTransactionResult.Type.SUCCESS).build();
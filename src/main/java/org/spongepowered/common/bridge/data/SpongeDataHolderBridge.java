@@ -32,6 +32,7 @@
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.value.Value;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface SpongeDataHolderBridge {
@@ -48,6 +49,10 @@ public interface SpongeDataHolderBridge {
         return DataHolderProcessor.bridge$offer(this, key, value);
     }
 
+    default DataTransactionResult bridge$offerAll(final Map<? extends Key<?>, ?> values) {
+        return DataHolderProcessor.bridge$offerAll(this, values);
+    }
+
     default <E> DataTransactionResult bridge$remove(final Key<? extends Value<E>> key) {
         return DataHolderProcessor.bridge$remove(this, key);
     }
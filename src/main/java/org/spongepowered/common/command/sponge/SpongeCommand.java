@@ -64,9 +64,13 @@
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scheduler.SpongeScheduledTask;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.scheduler.SpongeTaskMetrics;
 import org.spongepowered.common.util.JvmUtil;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
@@ -76,7 +80,10 @@
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -152,6 +159,40 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(pluginsInfoCommand, "info")
                 .build();
 
+        // /sponge listeners [plugin]|enable|disable
+        final Command.Parameterized listenersEnableCommand = Command.builder()
+                .permission("sponge.command.listeners.toggle")
+                .shortDescription(Component.text("Starts recording the time spent in each event listener."))
+                .executor(context -> this.listenersToggleExecutor(context, true))
+                .build();
+        final Command.Parameterized listenersDisableCommand = Command.builder()
+                .permission("sponge.command.listeners.toggle")
+                .shortDescription(Component.text("Stops recording the time spent in each event listener."))
+                .executor(context -> this.listenersToggleExecutor(context, false))
+                .build();
+        final Command.Parameterized listenersCommand = Command.builder()
+                .permission("sponge.command.listeners")
+                .shortDescription(Component.text("Displays the time spent in event listeners, per plugin or for a specific plugin."))
+                .addParameter(Parameter.plugin().optional().key(this.pluginContainerKey).build())
+                .addChild(listenersEnableCommand, "enable")
+                .addChild(listenersDisableCommand, "disable")
+                .executor(this::listenersExecutor)
+                .build();
+
+        // /sponge scheduler [plugin]|reset
+        final Command.Parameterized schedulerResetCommand = Command.builder()
+                .permission("sponge.command.scheduler.reset")
+                .shortDescription(Component.text("Resets the execution statistics of scheduled tasks."))
+                .executor(this::schedulerResetExecutor)
+                .build();
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .permission("sponge.command.scheduler")
+                .shortDescription(Component.text("Displays execution statistics of scheduled tasks, per plugin or for a specific plugin."))
+                .addParameter(Parameter.plugin().optional().key(this.pluginContainerKey).build())
+                .addChild(schedulerResetCommand, "reset")
+                .executor(this::schedulerExecutor)
+                .build();
+
         // /sponge tps
         final Command.Parameterized tpsCommand = Command.builder()
                 .permission("sponge.command.tps")
@@ -203,7 +244,9 @@ public Command.Parameterized createSpongeCommand() {
                 .addChild(auditCommand, "audit")
                 .addChild(chunksCommand, "chunks")
                 .addChild(heapCommand, "heap")
+                .addChild(listenersCommand, "listeners")
                 .addChild(pluginsCommand, "plugins")
+                .addChild(schedulerCommand, "scheduler")
                 .addChild(tpsCommand, "tps")
                 .addChild(versionCommand, "version")
                 .addChild(whichCommand, "which")
@@ -485,6 +528,126 @@ private Command.Parameterized chunksSubcommand() {
         return CommandResult.success();
     }
 
+    private @NonNull CommandResult listenersToggleExecutor(final CommandContext context, final boolean enabled) {
+        ((SpongeEventManager) SpongeCommon.game().eventManager()).setListenerTimings(enabled);
+        context.sendMessage(Identity.nil(), Component.text(enabled ? "Listener timings enabled." : "Listener timings disabled."));
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult listenersExecutor(final CommandContext context) {
+        final SpongeEventManager eventManager = (SpongeEventManager) SpongeCommon.game().eventManager();
+        if (!eventManager.listenerTimings()) {
+            context.sendMessage(Identity.nil(), Component.text("Listener timings are disabled, use '/sponge listeners enable' to record them.",
+                    NamedTextColor.YELLOW));
+        }
+        final Optional<PluginContainer> pluginContainer = context.one(this.pluginContainerKey);
+        final List<RegisteredListener<?>> listeners = eventManager.listeners();
+        final List<Component> contents = new ArrayList<>();
+        if (pluginContainer.isPresent()) {
+            listeners.stream()
+                    .filter(x -> x.getPlugin() == pluginContainer.get())
+                    .sorted(Comparator.comparingLong((RegisteredListener<?> x) -> x.totalTime()).reversed())
+                    .forEach(x -> contents.add(this.listenerTimings(
+                            x.getHandle().getClass().getSimpleName() + " (" + x.getEventType() + ", " + x.getOrder() + ")",
+                            x.invocations(), x.totalTime())));
+        } else {
+            final Map<PluginContainer, long[]> byPlugin = new HashMap<>();
+            for (final RegisteredListener<?> listener : listeners) {
+                final long[] totals = byPlugin.computeIfAbsent(listener.getPlugin(), k -> new long[2]);
+                totals[0] += listener.invocations();
+                totals[1] += listener.totalTime();
+            }
+            // Plugins whose listeners took the most time first
+            byPlugin.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<PluginContainer, long[]> x) -> x.getValue()[1]).reversed())
+                    .forEach(x -> contents.add(this.listenerTimings(x.getKey().metadata().id(), x.getValue()[0], x.getValue()[1])));
+        }
+
+        SpongeCommon.game().serviceProvider()
+          .paginationService()
+          .builder()
+          .contents(contents)
+          .title(Component.text(pluginContainer.map(x -> "Event Listeners (" + x.metadata().id() + ")").orElse("Event Listeners"),
+                NamedTextColor.WHITE))
+          .padding(Component.text("-", NamedTextColor.WHITE))
+          .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private Component listenerTimings(final String name, final long invocations, final long totalTime) {
+        return LinearComponents.linear(
+                SpongeCommand.INDENT_COMPONENT,
+                this.hl(name),
+                Component.text(": "),
+                this.key("Invocations: "), Component.text(invocations, NamedTextColor.GRAY),
+                this.key(" Total: "), this.millis(totalTime),
+                this.key(" Avg: "), this.millis(invocations == 0 ? 0L : totalTime / invocations)
+        );
+    }
+
+    private @NonNull CommandResult schedulerExecutor(final CommandContext context) {
+        final Optional<PluginContainer> pluginContainer = context.one(this.pluginContainerKey);
+        final List<Component> contents = new ArrayList<>();
+        if (SpongeCommon.game().isServerAvailable()) {
+            this.appendSchedulerMetrics(contents, "Server", SpongeCommon.serverScheduler(), pluginContainer.orElse(null));
+        }
+        this.appendSchedulerMetrics(contents, "Async", SpongeCommon.asyncScheduler(), pluginContainer.orElse(null));
+
+        SpongeCommon.game().serviceProvider()
+          .paginationService()
+          .builder()
+          .contents(contents)
+          .title(Component.text(pluginContainer.map(x -> "Scheduled Tasks (" + x.metadata().id() + ")").orElse("Scheduled Tasks"),
+                NamedTextColor.WHITE))
+          .padding(Component.text("-", NamedTextColor.WHITE))
+          .sendTo(context.cause().audience());
+        return CommandResult.success();
+    }
+
+    private @NonNull CommandResult schedulerResetExecutor(final CommandContext context) {
+        if (SpongeCommon.game().isServerAvailable()) {
+            SpongeCommon.serverScheduler().resetMetrics();
+        }
+        SpongeCommon.asyncScheduler().resetMetrics();
+        context.sendMessage(Identity.nil(), Component.text("Scheduler statistics reset."));
+        return CommandResult.success();
+    }
+
+    private void appendSchedulerMetrics(final List<Component> contents, final String name, final SpongeScheduler scheduler,
+            final @Nullable PluginContainer plugin) {
+        contents.add(this.title(name + " scheduler"));
+        if (plugin == null) {
+            // Plugins whose tasks took the most time first
+            scheduler.pluginMetrics().entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<PluginContainer, SpongeTaskMetrics> x) -> x.getValue().totalTime()).reversed())
+                    .forEach(entry -> contents.add(this.taskMetrics(entry.getKey().metadata().id(), entry.getValue())));
+        } else {
+            scheduler.tasks(plugin).stream()
+                    .map(SpongeScheduledTask.class::cast)
+                    .sorted(Comparator.comparingLong((SpongeScheduledTask x) -> x.metrics().totalTime()).reversed())
+                    .forEach(task -> contents.add(this.taskMetrics(task.name(), task.metrics())));
+            scheduler.pluginMetrics(plugin).ifPresent(x -> contents.add(this.taskMetrics("Total", x)));
+        }
+    }
+
+    private Component taskMetrics(final String name, final SpongeTaskMetrics metrics) {
+        return LinearComponents.linear(
+                SpongeCommand.INDENT_COMPONENT,
+                this.hl(name),
+                Component.text(": "),
+                this.key("Runs: "), Component.text(metrics.runs(), NamedTextColor.GRAY),
+                this.key(" Total: "), this.millis(metrics.totalTime()),
+                this.key(" Avg: "), this.millis(metrics.averageTime()),
+                this.key(" Max: "), this.millis(metrics.maxTime()),
+                this.key(" Avg lag: "), this.millis(metrics.averageLag()),
+                this.key(" Max lag: "), this.millis(metrics.maxLag())
+        );
+    }
+
+    private Component millis(final long nanos) {
+        return Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(nanos * 1.0E-6D) + "ms", NamedTextColor.GRAY);
+    }
+
     public static double getAverage(long[] $$0) {
         long $$1 = 0L;
 
@@ -24,13 +24,21 @@
  */
 package org.spongepowered.common.config.inheritable;
 
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 @ConfigSerializable
 public final class WorldCategory {
 
+    /**
+     * The largest spawn chunk radius whose ticket still has a valid chunk
+     * level, matching the bound of the vanilla spawnChunkRadius game rule.
+     */
+    public static final int MAX_SPAWN_CHUNK_RADIUS = 32;
+
     @Setting("item-merge-radius")
     @Comment("The defined merge radius for Item entities such that when two items are \n"
         + "within the defined radius of each other, they will attempt to merge. Usually, \n"
@@ -47,7 +55,23 @@ public final class WorldCategory {
         + "Note: 20 ticks is equivalent to 1 second.")
     public int autoSaveInterval = 6000;
 
+    @Setting("spawn-chunk-radius")
+    @Comment("The radius, in chunks, of the ticket keeping the spawn region of a world loaded. \n"
+        + "The world is considered ready once every chunk within one chunk less than this \n"
+        + "radius is fully generated. Lowering this speeds up loading many worlds at once. \n"
+        + "Set to 0 to not prepare a spawn region at all. Values above 32 are lowered to 32. (Default: 11)")
+    public int spawnChunkRadius = 11;
+
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
+
+    @PostProcess
+    private void clampSpawnChunkRadius() {
+        if (this.spawnChunkRadius < 0 || this.spawnChunkRadius > WorldCategory.MAX_SPAWN_CHUNK_RADIUS) {
+            final int clamped = Math.max(0, Math.min(WorldCategory.MAX_SPAWN_CHUNK_RADIUS, this.spawnChunkRadius));
+            SpongeCommon.logger().warn("The configured spawn-chunk-radius of {} is out of range, using {} instead", this.spawnChunkRadius, clamped);
+            this.spawnChunkRadius = clamped;
+        }
+    }
 }
@@ -26,14 +26,25 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataStore;
 import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.bridge.data.DataContainerHolder;
+import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
 import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.data.provider.CustomDataProvider;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -100,13 +111,84 @@ default <E, V extends Value<E>> Optional<V> getValue(final Key<V> key) {
         return this.impl$apply(key, DataProvider::value, Optional::empty);
     }
 
+    /**
+     * Gets the values of all the given {@link Key}s that are present on this
+     * holder. Keys whose providers share a backing source are resolved
+     * together: custom data is read from the manipulator of its holder once,
+     * and keys backed by a vanilla {@link DataStore} deserialize the data
+     * container of their holder once per store instead of once per key.
+     *
+     * @param keys The keys
+     * @return The present values, by key
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default Map<Key<?>, Object> getAll(final Collection<? extends Key<?>> keys) {
+        final List<DataHolder> dataHolders = this.impl$delegateDataHolder();
+        final Map<Key<?>, Object> values = new LinkedHashMap<>();
+        final Map<SpongeDataHolderBridge, List<Key<?>>> customData = new IdentityHashMap<>();
+        final Map<DataHolder, Map<DataStore, List<Key<?>>>> storedData = new IdentityHashMap<>();
+        for (final Key key : keys) {
+            for (final DataHolder dataHolder : dataHolders) {
+                final DataProvider dataProvider = this.impl$getProviderFor(key, dataHolder);
+                if (!dataProvider.isSupported(dataHolder)) {
+                    continue;
+                }
+                if (dataProvider instanceof CustomDataProvider) {
+                    customData.computeIfAbsent(CustomDataProvider.getCustomDataHolder(dataHolder), bridge -> new ArrayList<>()).add(key);
+                    break;
+                }
+                final @Nullable DataStore dataStore = SpongeDataHolder.impl$vanillaDataStore(key, dataHolder);
+                if (dataStore != null) {
+                    storedData.computeIfAbsent(dataHolder, holder -> new IdentityHashMap<>())
+                            .computeIfAbsent(dataStore, store -> new ArrayList<>()).add(key);
+                } else {
+                    dataProvider.get(dataHolder).ifPresent(value -> values.put(key, value));
+                }
+                break;
+            }
+        }
+        for (final Map.Entry<SpongeDataHolderBridge, List<Key<?>>> entry : customData.entrySet()) {
+            // Through the bridge, so holders that guard their custom data, such as empty item stacks, still do
+            for (final Key key : entry.getValue()) {
+                entry.getKey().bridge$get(key).ifPresent(value -> values.put(key, value));
+            }
+        }
+        for (final Map.Entry<DataHolder, Map<DataStore, List<Key<?>>>> entry : storedData.entrySet()) {
+            final DataContainer dataContainer = ((DataContainerHolder) entry.getKey()).data$getDataContainer();
+            for (final Map.Entry<DataStore, List<Key<?>>> storeEntry : entry.getValue().entrySet()) {
+                final DataManipulator manipulator = storeEntry.getKey().deserialize(dataContainer);
+                for (final Key key : storeEntry.getValue()) {
+                    manipulator.get(key).ifPresent(value -> values.put(key, value));
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gets the vanilla {@link DataStore} the value of the given key is
+     * serialized with on the given data holder, if the holder keeps its
+     * values in a data container.
+     *
+     * @param key The key
+     * @param dataHolder The data holder
+     * @return The data store, or null if the value isn't backed by one
+     */
+    private static @Nullable DataStore impl$vanillaDataStore(final Key<?> key, final DataHolder dataHolder) {
+        if (!(dataHolder instanceof DataContainerHolder)) {
+            return null;
+        }
+        return SpongeDataManager.getDatastoreRegistry().getVanillaDataStore(key, dataHolder.getClass()).orElse(null);
+    }
+
     default Map<Key<?>, Object> impl$getMappedValues() {
-        return this.impl$delegateDataHolder().stream()
-                .flatMap(dh -> this.impl$getAllProviders(dh).stream()
-                        .map(provider -> provider.value(dh).orElse(null))
-                        .filter(Objects::nonNull)
-                        .map(Value::asImmutable))
-                .collect(ImmutableMap.toImmutableMap(Value::key, Value::get));
+        final Set<Key<?>> keys = new LinkedHashSet<>();
+        for (final DataHolder dataHolder : this.impl$delegateDataHolder()) {
+            for (final DataProvider<?, ?> provider : this.impl$getAllProviders(dataHolder)) {
+                keys.add(provider.key());
+            }
+        }
+        return ImmutableMap.copyOf(this.getAll(keys));
     }
 
     @Override
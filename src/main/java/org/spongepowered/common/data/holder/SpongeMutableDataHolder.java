@@ -26,18 +26,27 @@
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataStore;
 import org.spongepowered.api.data.value.CollectionValue;
 import org.spongepowered.api.data.value.MapValue;
 import org.spongepowered.api.data.value.MergeFunction;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.common.bridge.data.DataContainerHolder;
+import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
+import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.key.SpongeKey;
+import org.spongepowered.common.data.provider.CustomDataProvider;
 import org.spongepowered.common.util.DataUtil;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -83,6 +92,80 @@ default DataTransactionResult offer(Value<?> value) {
                 () -> DataTransactionResult.failResult(value.asImmutable()));
     }
 
+    /**
+     * Offers all the given values in a single transaction. Values whose
+     * providers share a backing source are written together: custom data
+     * offered to the same holder is synchronized to its tag only once, and
+     * values backed by a vanilla {@link DataStore} are serialized into the
+     * data container of their holder once per store.
+     *
+     * @param values The values to offer, by key
+     * @return The combined transaction result
+     */
+    default DataTransactionResult offerAll(final Map<? extends Key<?>, ?> values) {
+        if (values.isEmpty()) {
+            return DataTransactionResult.successNoData();
+        }
+        final List<Mutable> dataHolders = this.impl$mutableDelegateDataHolder();
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        final Map<SpongeDataHolderBridge, Map<Key<?>, Object>> customData = new IdentityHashMap<>();
+        final Map<Mutable, Map<DataStore, Map<Key<?>, Object>>> storedData = new IdentityHashMap<>();
+        boolean success = false;
+        for (final Map.Entry<? extends Key<?>, ?> entry : values.entrySet()) {
+            final Key key = entry.getKey();
+            boolean offered = false;
+            for (final Mutable dataHolder : dataHolders) {
+                final DataProvider dataProvider = this.impl$getProviderFor(key, dataHolder);
+                if (!dataProvider.isSupported(dataHolder)) {
+                    continue;
+                }
+                offered = true;
+                if (dataProvider instanceof CustomDataProvider) {
+                    customData.computeIfAbsent(CustomDataProvider.getCustomDataHolder(dataHolder), bridge -> new LinkedHashMap<>())
+                            .put(key, entry.getValue());
+                    break;
+                }
+                final @Nullable DataStore dataStore = dataHolder instanceof DataContainerHolder.Mutable
+                        ? SpongeDataManager.getDatastoreRegistry().getVanillaDataStore(key, dataHolder.getClass()).orElse(null)
+                        : null;
+                if (dataStore != null) {
+                    storedData.computeIfAbsent(dataHolder, holder -> new IdentityHashMap<>())
+                            .computeIfAbsent(dataStore, store -> new LinkedHashMap<>()).put(key, entry.getValue());
+                } else {
+                    final DataTransactionResult result = dataProvider.offer(dataHolder, entry.getValue());
+                    builder.absorbResult(result);
+                    success |= result.isSuccessful();
+                }
+                break;
+            }
+            if (!offered) {
+                builder.reject(Value.immutableOf(key, entry.getValue()));
+            }
+        }
+        for (final Map.Entry<SpongeDataHolderBridge, Map<Key<?>, Object>> entry : customData.entrySet()) {
+            final DataTransactionResult result = entry.getKey().bridge$offerAll(entry.getValue());
+            builder.absorbResult(result);
+            success |= result.isSuccessful();
+        }
+        for (final Map.Entry<Mutable, Map<DataStore, Map<Key<?>, Object>>> entry : storedData.entrySet()) {
+            final DataContainer dataContainer = ((DataContainerHolder) entry.getKey()).data$getDataContainer();
+            for (final Map.Entry<DataStore, Map<Key<?>, Object>> storeEntry : entry.getValue().entrySet()) {
+                final DataManipulator previous = storeEntry.getKey().deserialize(dataContainer);
+                final DataManipulator.Mutable manipulator = DataManipulator.mutableOf();
+                for (final Map.Entry<Key<?>, Object> valueEntry : storeEntry.getValue().entrySet()) {
+                    final Key key = valueEntry.getKey();
+                    previous.getValue(key).ifPresent(value -> builder.replace(((Value) value).asImmutable()));
+                    manipulator.set(key, valueEntry.getValue());
+                    builder.success(Value.immutableOf(key, valueEntry.getValue()));
+                }
+                storeEntry.getKey().serialize(manipulator, dataContainer);
+            }
+            ((DataContainerHolder.Mutable) entry.getKey()).data$setDataContainer(dataContainer);
+            success = true;
+        }
+        return builder.result(success ? DataTransactionResult.Type.SUCCESS : DataTransactionResult.Type.FAILURE).build();
+    }
+
     @Override
     default <E> DataTransactionResult offerSingle(Key<? extends CollectionValue<E, ?>> key, E element) {
         final SpongeKey<? extends CollectionValue<E, Collection<E>>, Collection<E>> key0 =
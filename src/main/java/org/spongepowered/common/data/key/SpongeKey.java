@@ -40,11 +40,15 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final int index;
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -58,6 +62,7 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
             final BiPredicate<? super E, ? super E> elementIncludesTester, final Supplier<E> defaultValueSupplier) {
         super(key);
 
+        this.index = SpongeKey.NEXT_INDEX.getAndIncrement();
         this.valueType = valueType;
         this.elementType = elementType;
         this.elementComparator = elementComparator;
@@ -93,6 +98,17 @@ public <H extends DataHolder> void registerEvent(final PluginContainer plugin, f
         ((SpongeDataManager) Sponge.game().dataManager()).registerKeyListener(new KeyBasedDataListener<>(plugin, holderFilter, this, listener));
     }
 
+    /**
+     * Gets the dense index of this key, assigned in creation order and
+     * used to index the providers of a
+     * {@link org.spongepowered.common.data.provider.DataProviderLookup}.
+     *
+     * @return The index
+     */
+    public int index() {
+        return this.index;
+    }
+
     public ValueConstructor<V, E> getValueConstructor() {
         return this.valueConstructor;
     }
@@ -77,6 +77,23 @@ public DataStore getDataStore(final Key<?> dataKey, final Type holderType) {
         return this.dataStoreCache.computeIfAbsent(new LookupKey(holderType, dataKey), this::loadDataStore);
     }
 
+    /**
+     * Gets the vanilla data-store backing the given data-key for the given
+     * data-holder type, if there is one. Plugin data-stores are not included,
+     * their values are accessed through the custom data of the holder.
+     *
+     * @param dataKey The data-key
+     * @param holderType The data-holder type
+     * @return The vanilla data-store, if present
+     */
+    public Optional<DataStore> getVanillaDataStore(final Key<?> dataKey, final Type holderType) {
+        final DataStore dataStore = this.getDataStore(dataKey, holderType);
+        if (dataStore == this.NO_OP_DATASTORE || dataStore instanceof SpongeDataStore) {
+            return Optional.empty();
+        }
+        return Optional.of(dataStore);
+    }
+
     public Optional<DataStore> getDataStore(final ResourceKey key, final Type holderType) {
         // TODO do we need caching for this too?
         final List<DataStore> dataStores = this.filterDataStoreCandidates(this.dataStoreByDataStoreKey.get(key), holderType);
@@ -55,7 +55,7 @@ public Optional<E> get(DataHolder dataHolder) {
         return Optional.empty();
     }
 
-    private static SpongeDataHolderBridge getCustomDataHolder(DataHolder dataHolder) {
+    public static SpongeDataHolderBridge getCustomDataHolder(final DataHolder dataHolder) {
         final SpongeDataHolderBridge customDataHolder;
         if (dataHolder instanceof ServerLocation) {
             customDataHolder = (SpongeDataHolderBridge) ((ServerLocation) dataHolder).blockEntity().get();
@@ -24,7 +24,8 @@
  */
 package org.spongepowered.common.data.provider;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -35,10 +36,23 @@
 
 public final class DataProviderLookup {
 
-    private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    /**
+     * The providers indexed by {@link SpongeKey#index()}, keys without a
+     * provider for this lookup have a {@code null} entry.
+     */
+    private final @Nullable DataProvider<?, ?>[] providers;
+    private final Collection<DataProvider<?, ?>> allProviders;
 
-    DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
-        this.providerMap = ImmutableMap.copyOf(providerMap);
+    DataProviderLookup(final Map<Key<?>, DataProvider<?, ?>> providerMap) {
+        int length = 0;
+        for (final Key<?> key : providerMap.keySet()) {
+            length = Math.max(length, ((SpongeKey<?, ?>) key).index() + 1);
+        }
+        this.providers = new DataProvider<?, ?>[length];
+        for (final Map.Entry<Key<?>, DataProvider<?, ?>> entry : providerMap.entrySet()) {
+            this.providers[((SpongeKey<?, ?>) entry.getKey()).index()] = entry.getValue();
+        }
+        this.allProviders = ImmutableList.copyOf(providerMap.values());
     }
 
     /**
@@ -47,7 +61,7 @@ public final class DataProviderLookup {
      * @return The delegate data providers
      */
     public Collection<DataProvider<?, ?>> getAllProviders() {
-        return this.providerMap.values();
+        return this.allProviders;
     }
 
     /**
@@ -59,7 +73,15 @@ public final class DataProviderLookup {
      * @return The delegate provider
      */
     @SuppressWarnings("unchecked")
-    public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+    public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key) {
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int index = spongeKey.index();
+        if (index < this.providers.length) {
+            final @Nullable DataProvider<?, ?> provider = this.providers[index];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return spongeKey.getEmptyDataProvider();
     }
 }
@@ -80,7 +80,6 @@
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.service.server.permission.BridgeSubject;
 import org.spongepowered.common.service.server.permission.SubjectHelper;
-import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FileUtil;
 import org.spongepowered.common.util.MissingImplementationException;
@@ -88,7 +87,6 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -99,6 +97,7 @@
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 /**
@@ -421,22 +420,34 @@ public void markDirty() {
     }
 
     public void save() throws IOException {
+        try {
+            ((SpongeServer) SpongeCommon.server()).userManager().save(this).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the current state of this user to a copy of its compound,
+     * which can then be saved off the main thread.
+     *
+     * @return The written compound
+     */
+    public CompoundTag snapshot() {
         synchronized (this) {
-            final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
-            final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
-            final Path p = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat");
             this.writeCompound(this.compound);
-            try (final OutputStream out = Files.newOutputStream(p)) {
-                NbtIo.writeCompressed(this.compound, out);
-                userManager.unmarkDirty(this);
-            } catch (final IOException e) {
-                // We log the message here because the error may be swallowed by a completable future.
-                SpongeCommon.logger().warn("Failed to save user file [{}]!", p, e);
-                throw e;
-            }
+            return this.compound.copy();
         }
     }
 
+    public Path dataFile() {
+        final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
+        return storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat");
+    }
+
     // Helpers for Equipment:
 
     private void setEquippedItem(final Supplier<? extends EquipmentType> type, final @Nullable ItemStack item) {
@@ -577,6 +577,23 @@ public static boolean handleCollideBlockEvent(final Block block, final Level wor
     public static boolean handleCollideImpactEvent(final net.minecraft.world.entity.Entity projectile, final @Nullable ProjectileSource projectileSource,
             final HitResult movingObjectPosition) {
         final HitResult.Type movingObjectType = movingObjectPosition.getType();
+        if (movingObjectType == HitResult.Type.MISS
+                || (movingObjectType == HitResult.Type.ENTITY && !ShouldFire.COLLIDE_ENTITY_EVENT_IMPACT)) {
+            return false;
+        }
+        if (movingObjectType == HitResult.Type.BLOCK && !ShouldFire.COLLIDE_BLOCK_EVENT_IMPACT) {
+            // Nothing would see the impact snapshot, only keep tracking the impacted block
+            final BlockPos blockPos = ((BlockHitResult) movingObjectPosition).getBlockPos();
+            if (blockPos.getY() >= projectile.level().getMinBuildHeight()) {
+                PhaseTracker.getInstance().getPhaseContext().getCreator().ifPresent(creator -> {
+                    final BlockPos targetPos = BlockPos.containing(movingObjectPosition.getLocation());
+                    final LevelChunkBridge spongeChunk = (LevelChunkBridge) projectile.level().getChunkAt(targetPos);
+                    spongeChunk.bridge$addTrackedBlockPosition(projectile.level().getBlockState(blockPos).getBlock(), targetPos, creator,
+                            PlayerTracker.Type.NOTIFIER);
+                });
+            }
+            return false;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(projectile);
             frame.addContext(EventContextKeys.PROJECTILE_SOURCE, projectileSource == null
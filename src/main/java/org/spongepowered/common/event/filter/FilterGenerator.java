@@ -141,6 +141,97 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
         final String name = Type.getInternalName(handle) + '_' + localName;
         final ListenerClassVisitor.ListenerParameter[] parameters = method.parameterTypes();
 
+        final Filters filters = this.collectFilters(method);
+
+        // we know there are no filters, skip generating a class
+        if (filters.isEmpty()) {
+            return null;
+        }
+
+        final ClassWriter cw = new LoaderClassWriter(method.declaringClass().getClassLoader(), ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
+
+        filters.createFields(cw);
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            filters.writeCtor(name, cw, mv);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "filter", FilterGenerator.FILTER_DESCRIPTOR, null, null);
+            mv.visitCode();
+            final int[] plocals = filters.write(name, cw, mv);
+
+            // create the return array
+            if (parameters.length == 1) {
+                mv.visitInsn(ICONST_1);
+            } else {
+                mv.visitIntInsn(BIPUSH, parameters.length);
+            }
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+            // load the event into the array
+            mv.visitInsn(DUP);
+            mv.visitInsn(ICONST_0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitInsn(AASTORE);
+            // load all the params into the array
+            for (int i = 1; i < parameters.length; i++) {
+                mv.visitInsn(DUP);
+                mv.visitIntInsn(BIPUSH, i);
+                final Type paramType = parameters[i].type();
+                mv.visitVarInsn(paramType.getOpcode(ILOAD), plocals[i - 1]);
+                GeneratorUtils.visitBoxingMethod(mv, paramType);
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+        final byte[] data = cw.toByteArray();
+        FilterGenerator.writeDebugClass(name, data);
+        return data;
+    }
+
+    /**
+     * Writes the class to the debug output directory if filter debugging is
+     * enabled.
+     *
+     * @param name The internal name of the class
+     * @param data The class bytes
+     */
+    public static void writeDebugClass(final String name, final byte[] data) {
+        if (FilterGenerator.FILTER_DEBUG) {
+            final Path outDir = Path.of(".sponge.debug.out");
+            final Path outFile = outDir.resolve(name + ".class");
+            try {
+                Files.createDirectories(outFile.getParent());
+            } catch (final IOException e) {
+                FilterGenerator.LOGGER.error("Failed to create parent directory", e);
+            }
+            try {
+                Files.write(outFile, data);
+            } catch (final IOException e) {
+                FilterGenerator.LOGGER.error("Failed to write class to debug directory", e);
+            }
+        }
+    }
+
+    /**
+     * Collects the filters declared by the annotations of the listener
+     * method and its event type.
+     *
+     * @param method The listener method
+     * @return The filters
+     */
+    public Filters collectFilters(final ListenerClassVisitor.DiscoveredMethod method) throws ClassNotFoundException {
         SubtypeFilterDelegate sfilter = null;
         final List<FilterDelegate> additional = new ArrayList<>();
 
@@ -172,42 +263,60 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
         if (!cancellation) {
             additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
         }
+        return new Filters(method, sfilter, additional);
+    }
 
-        // we know there are no filters, skip generating a class
-        if (additional.isEmpty() && sfilter == null && parameters.length == 1) {
-            return null;
+    /**
+     * The filters of a single listener method, which can be written into any
+     * method taking the event as its first argument. Failing filters return
+     * {@code null} out of that method.
+     */
+    public static final class Filters {
+
+        private final ListenerClassVisitor.DiscoveredMethod method;
+        private final @Nullable SubtypeFilterDelegate subtypeFilter;
+        private final List<FilterDelegate> additional;
+
+        Filters(final ListenerClassVisitor.DiscoveredMethod method, final @Nullable SubtypeFilterDelegate subtypeFilter,
+            final List<FilterDelegate> additional) {
+            this.method = method;
+            this.subtypeFilter = subtypeFilter;
+            this.additional = additional;
         }
 
-        final ClassWriter cw = new LoaderClassWriter(method.declaringClass().getClassLoader(), ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-        MethodVisitor mv;
-
-        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
+        public boolean isEmpty() {
+            return this.additional.isEmpty() && this.subtypeFilter == null && this.method.parameterTypes().length == 1;
+        }
 
-        if (sfilter != null) {
-            sfilter.createFields(cw);
+        public void createFields(final ClassWriter cw) {
+            if (this.subtypeFilter != null) {
+                this.subtypeFilter.createFields(cw);
+            }
         }
-        {
-            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
-            mv.visitCode();
-            mv.visitVarInsn(ALOAD, 0);
-            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
+
+        public void writeCtor(final String name, final ClassWriter cw, final MethodVisitor mv) {
+            if (this.subtypeFilter != null) {
+                this.subtypeFilter.writeCtor(name, cw, mv);
             }
-            mv.visitInsn(RETURN);
-            mv.visitMaxs(0, 0);
-            mv.visitEnd();
         }
-        {
-            mv = cw.visitMethod(ACC_PUBLIC, "filter", FilterGenerator.FILTER_DESCRIPTOR, null, null);
-            mv.visitCode();
+
+        /**
+         * Writes the filter checks and the parameter sources.
+         *
+         * @param name The internal name of the class being written
+         * @param cw The class writer
+         * @param mv The method visitor, with the event in local 1
+         * @return The local var indices of the parameter values, excluding the event
+         */
+        public int[] write(final String name, final ClassWriter cw, final MethodVisitor mv) throws ClassNotFoundException {
+            final ListenerClassVisitor.ListenerParameter[] parameters = this.method.parameterTypes();
             // index of the next available local variable
             int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
+            if (this.subtypeFilter != null) {
+                local = this.subtypeFilter.write(name, cw, mv, this.method, local);
             }
-            for (final FilterDelegate eventFilter : additional) {
-                local = eventFilter.write(name, cw, mv, method, local);
+            for (final FilterDelegate eventFilter : this.additional) {
+                local = eventFilter.write(name, cw, mv, this.method, local);
             }
 
             // local var indices of the parameters values
@@ -217,7 +326,7 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
                 ParameterFilterSourceDelegate source = null;
                 final List<ParameterFilterDelegate> paramFilters = new ArrayList<>();
                 for (final ListenerClassVisitor.ListenerAnnotation anno : param.annotations()) {
-                    final Object obj = FilterGenerator.filterFromAnnotation(method, anno);
+                    final Object obj = FilterGenerator.filterFromAnnotation(this.method, anno);
                     if (obj == null) {
                         continue;
                     }
@@ -244,7 +353,7 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
                     throw new IllegalStateException(
                             "Cannot have additional parameters filters without an array source (for " + param.name() + ")");
                 }
-                final Tuple<Integer, Integer> localState = source.write(cw, mv, method, i, local, plocals, parameters);
+                final Tuple<Integer, Integer> localState = source.write(cw, mv, this.method, i, local, plocals, parameters);
                 local = localState.first();
                 plocals[i - 1] = localState.second();
 
@@ -252,51 +361,8 @@ public byte[] generateClass(final Class<?> handle, final String localName, final
                     paramFilter.write(cw, mv, param, plocals[i - 1]);
                 }
             }
-
-            // create the return array
-            if (parameters.length == 1) {
-                mv.visitInsn(ICONST_1);
-            } else {
-                mv.visitIntInsn(BIPUSH, parameters.length);
-            }
-            mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
-            // load the event into the array
-            mv.visitInsn(DUP);
-            mv.visitInsn(ICONST_0);
-            mv.visitVarInsn(ALOAD, 1);
-            mv.visitInsn(AASTORE);
-            // load all the params into the array
-            for (int i = 1; i < parameters.length; i++) {
-                mv.visitInsn(DUP);
-                mv.visitIntInsn(BIPUSH, i);
-                final Type paramType = parameters[i].type();
-                mv.visitVarInsn(paramType.getOpcode(ILOAD), plocals[i - 1]);
-                GeneratorUtils.visitBoxingMethod(mv, paramType);
-                mv.visitInsn(AASTORE);
-            }
-            mv.visitInsn(ARETURN);
-            mv.visitMaxs(0, 0);
-            mv.visitEnd();
+            return plocals;
         }
-        cw.visitEnd();
-        final byte[] data = cw.toByteArray();
-
-        if (FilterGenerator.FILTER_DEBUG) {
-            final Path outDir = Path.of(".sponge.debug.out");
-            final Path outFile = outDir.resolve(name + ".class");
-            try {
-                Files.createDirectories(outFile.getParent());
-            } catch (final IOException e) {
-                FilterGenerator.LOGGER.error("Failed to create parent directory", e);
-            }
-            try {
-                Files.write(outFile, data);
-            } catch (final IOException e) {
-                FilterGenerator.LOGGER.error("Failed to write class to debug directory", e);
-            }
-        }
-
-        return data;
     }
 
     @Nullable
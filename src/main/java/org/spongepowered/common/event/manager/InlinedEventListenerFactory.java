@@ -0,0 +1,165 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V11;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.event.filter.FilterGenerator;
+import org.spongepowered.common.event.gen.LoaderClassWriter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates a single hidden class per listener method, with the filter checks
+ * and parameter sources written directly into its handle method instead of
+ * going through a separate {@link org.spongepowered.common.event.filter.EventFilter}
+ * and the array of filtered arguments.
+ */
+public final class InlinedEventListenerFactory implements AnnotatedEventListener.Factory {
+
+    private static final String BASE_HANDLER = Type.getInternalName(AnnotatedEventListener.class);
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + ")V";
+
+    @Override
+    public AnnotatedEventListener create(final Object handle, final ListenerClassVisitor.DiscoveredMethod method,
+                                         final MethodHandles.Lookup handleLookup) throws Throwable {
+        if (!handleLookup.hasFullPrivilegeAccess()) {
+            throw new IllegalArgumentException("The provided lookup '" + handleLookup
+                + "' does not have full privilege access required to create a hidden class");
+        }
+        final Class<?> declaringClass = method.declaringClass();
+        final String listenerName = "InlinedListener_" + declaringClass.getSimpleName() + '_' + method.methodName();
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, handleLookup);
+        final MethodHandles.Lookup clazz = lookup.defineHiddenClass(
+            InlinedEventListenerFactory.generateClass(listenerName, declaringClass, method),
+            true,
+            MethodHandles.Lookup.ClassOption.NESTMATE
+        );
+        return (AnnotatedEventListener) clazz.findConstructor(
+            clazz.lookupClass(),
+            MethodType.methodType(void.class, declaringClass)
+        ).invoke(handle);
+    }
+
+    private static byte[] generateClass(final String listenerName, final Class<?> handle,
+        final ListenerClassVisitor.DiscoveredMethod method) throws ClassNotFoundException {
+        final String handleName = Type.getInternalName(handle);
+        final String name = handleName + '_' + listenerName;
+        final String handleDescriptor = handle.descriptorString();
+        final ListenerClassVisitor.ListenerParameter[] parameters = method.parameterTypes();
+        final StringBuilder methodDescriptor = new StringBuilder("(");
+        for (final ListenerClassVisitor.ListenerParameter parameter : parameters) {
+            methodDescriptor.append(parameter.type().getDescriptor());
+        }
+        methodDescriptor.append(")V");
+
+        final FilterGenerator.Filters filters = FilterGenerator.getInstance().collectFilters(method);
+
+        final ClassWriter cw = new LoaderClassWriter(handle.getClassLoader(), ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, InlinedEventListenerFactory.BASE_HANDLER, null);
+
+        filters.createFields(cw);
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", '(' + handleDescriptor + ")V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, InlinedEventListenerFactory.BASE_HANDLER, "<init>", "(Ljava/lang/Object;)V", false);
+            filters.writeCtor(name, cw, mv);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "handle", InlinedEventListenerFactory.HANDLE_METHOD_DESCRIPTOR, null, new String[] { "java/lang/Exception" });
+            mv.visitCode();
+            // The filters bail out by returning null, which becomes a plain
+            // return since the event is simply not passed on.
+            final int[] plocals = filters.write(name, cw, new FilterReturnAdapter(mv));
+
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, "handle", "Ljava/lang/Object;");
+            mv.visitTypeInsn(CHECKCAST, handleName);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, parameters[0].type().getInternalName());
+            for (int i = 1; i < parameters.length; i++) {
+                final Type paramType = parameters[i].type();
+                mv.visitVarInsn(paramType.getOpcode(ILOAD), plocals[i - 1]);
+                if (paramType.getSort() == Type.OBJECT || paramType.getSort() == Type.ARRAY) {
+                    mv.visitTypeInsn(CHECKCAST, paramType.getInternalName());
+                }
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, handleName, method.methodName(), methodDescriptor.toString(), false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        final byte[] data = cw.toByteArray();
+        FilterGenerator.writeDebugClass(name, data);
+        return data;
+    }
+
+    /**
+     * Turns the {@code return null} of failing filters into a plain return
+     * out of the void handle method.
+     */
+    private static final class FilterReturnAdapter extends MethodVisitor {
+
+        FilterReturnAdapter(final MethodVisitor methodVisitor) {
+            super(ListenerClassVisitor.ASM_VERSION, methodVisitor);
+        }
+
+        @Override
+        public void visitInsn(final int opcode) {
+            if (opcode == ARETURN) {
+                super.visitInsn(POP);
+                super.visitInsn(RETURN);
+            } else {
+                super.visitInsn(opcode);
+            }
+        }
+    }
+}
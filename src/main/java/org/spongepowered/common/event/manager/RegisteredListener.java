@@ -32,10 +32,9 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
@@ -48,6 +47,10 @@
 
     private final boolean beforeModifications;
 
+    // Only recorded while listener timings are enabled
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder time = new LongAdder();
+
     RegisteredListener(
             final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener, final boolean beforeModifications) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
@@ -73,6 +76,36 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    void recordInvocation(final long time) {
+        this.invocations.increment();
+        this.time.add(time);
+    }
+
+    void resetTimings() {
+        this.invocations.reset();
+        this.time.reset();
+    }
+
+    /**
+     * Gets the amount of times this listener was invoked while listener
+     * timings were enabled.
+     *
+     * @return The amount of invocations
+     */
+    public long invocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * Gets the total time in nanoseconds spent in this listener while
+     * listener timings were enabled.
+     *
+     * @return The total time
+     */
+    public long totalTime() {
+        return this.time.sum();
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -94,24 +127,38 @@ public int compareTo(final RegisteredListener<?> handler) {
 
     public static final class Cache {
 
+        private static final Order[] ORDERS = Order.values();
+
         private final List<RegisteredListener<?>> listeners;
-        private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
-        private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
-        private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final List<RegisteredListener<?>> beforeModifications;
+        private final List<RegisteredListener<?>> afterModifications;
+        // Indexed by order ordinal
+        private final List<RegisteredListener<?>>[] listenersByOrder;
 
+        @SuppressWarnings("unchecked")
         Cache(final List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = List.copyOf(listeners);
 
-            this.listenersByOrder = new EnumMap<>(Order.class);
+            final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
+            final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
+            final List<List<RegisteredListener<?>>> listenersByOrder = new ArrayList<>(Cache.ORDERS.length);
+            for (int i = 0; i < Cache.ORDERS.length; i++) {
+                listenersByOrder.add(new ArrayList<>());
+            }
             for (final RegisteredListener<?> handler : listeners) {
-                final List<RegisteredListener<?>> list = this.listenersByOrder.computeIfAbsent(handler.getOrder(), order -> new ArrayList<>());
-                list.add(handler);
+                listenersByOrder.get(handler.getOrder().ordinal()).add(handler);
                 if (handler.beforeModifications) {
-                    this.beforeModifications.add(handler);
+                    beforeModifications.add(handler);
                 } else {
-                    this.afterModifications.add(handler);
+                    afterModifications.add(handler);
                 }
             }
+            this.beforeModifications = List.copyOf(beforeModifications);
+            this.afterModifications = List.copyOf(afterModifications);
+            this.listenersByOrder = new List[Cache.ORDERS.length];
+            for (int i = 0; i < Cache.ORDERS.length; i++) {
+                this.listenersByOrder[i] = List.copyOf(listenersByOrder.get(i));
+            }
         }
 
         public List<RegisteredListener<?>> getListeners() {
@@ -119,19 +166,15 @@ public List<RegisteredListener<?>> getListeners() {
         }
 
         public List<RegisteredListener<?>> getListenersByOrder(final Order order) {
-            final List<RegisteredListener<?>> list = this.listenersByOrder.get(Objects.requireNonNull(order, "order"));
-            if (list == null) {
-                return Collections.emptyList();
-            }
-            return list;
+            return this.listenersByOrder[Objects.requireNonNull(order, "order").ordinal()];
         }
 
         public List<RegisteredListener<?>> beforeModifications() {
-            return Collections.unmodifiableList(this.beforeModifications);
+            return this.beforeModifications;
         }
 
         public List<RegisteredListener<?>> afterModifications() {
-            return Collections.unmodifiableList(this.afterModifications);
+            return this.afterModifications;
         }
 
     }
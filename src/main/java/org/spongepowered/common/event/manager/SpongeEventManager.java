@@ -24,8 +24,6 @@
  */
 package org.spongepowered.common.event.manager;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import io.leangen.geantyref.GenericTypeReflector;
@@ -44,6 +42,7 @@
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.filter.FilterGenerator;
@@ -57,13 +56,14 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -83,43 +83,38 @@ public abstract class SpongeEventManager implements EventManager {
     private final Object lock;
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * Every event type that has been posted so far, indexed by the dense id
+     * it was assigned. Guarded by {@link #lock}.
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private final List<EventType<?>> eventTypes = new ArrayList<>();
+    private final Map<EventType<?>, Integer> eventTypeIds = new HashMap<>();
+    /**
+     * Lock-free lookups of the ids assigned to generic and non-generic event
+     * types, ids are only ever assigned through {@link #eventTypeId}.
+     */
+    private final Map<EventType<?>, Integer> genericEventTypeIds = new ConcurrentHashMap<>();
+    private final ClassValue<Integer> rawEventTypeIds = new ClassValue<>() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return SpongeEventManager.this.eventTypeId(new EventType(type, null));
+        }
+    };
+    /**
+     * The baked handlers of every event type for quick event posting, indexed
+     * by event type id.
+     * <p>Only the entries of the event types affected by added or removed
+     * handlers are rebaked, entries are never cleared.</p>
+     */
+    private volatile RegisteredListener.@Nullable Cache[] handlersById = new RegisteredListener.Cache[256];
     private final Set<Object> registeredListeners;
+    private volatile boolean listenerTimings;
 
     public SpongeEventManager() {
         this.lock = new Object();
         this.handlersByEvent = HashMultimap.create();
         this.registeredListeners = new ReferenceOpenHashSet<>();
         this.checker = new ListenerChecker(ShouldFire.class);
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            final Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            final Object innerCacheValue = innerCache.get(this.handlersCache);
-            final Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            final Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            final ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData =
-                    new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (final NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            SpongeCommon.logger().warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            SpongeCommon.logger().warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     private static @Nullable String getHandlerErrorOrNull(final ListenerClassVisitor.DiscoveredMethod method) throws
@@ -189,38 +184,90 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
         return new RegisteredListener.Cache(handlers);
     }
 
-    private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+    /**
+     * Gets the id of the given event type, assigning it and baking its
+     * handlers if the type was never seen before.
+     *
+     * @param eventType The event type
+     * @return The id of the event type
+     */
+    private int eventTypeId(final EventType<?> eventType) {
+        synchronized (this.lock) {
+            final @Nullable Integer existing = this.eventTypeIds.get(eventType);
+            if (existing != null) {
+                return existing;
+            }
+            final int id = this.eventTypes.size();
+            this.eventTypes.add(eventType);
+            this.eventTypeIds.put(eventType, id);
 
+            RegisteredListener.@Nullable Cache[] handlers = this.handlersById;
+            if (id >= handlers.length) {
+                handlers = Arrays.copyOf(handlers, handlers.length * 2);
+            }
+            handlers[id] = this.bakeHandlers(eventType);
+            this.handlersById = handlers;
+
+            if (eventType.getGenericType() != null) {
+                this.genericEventTypeIds.put(eventType, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Rebakes the handlers of every known event type that is a subtype of
+     * one of the given types. Must be called while holding {@link #lock}.
+     *
+     * @param changedTypes The event types whose handlers changed
+     */
+    private void rebakeHandlers(final Set<Class<?>> changedTypes) {
+        final RegisteredListener.@Nullable Cache[] handlers = this.handlersById;
+        for (int id = 0; id < this.eventTypes.size(); id++) {
+            final EventType<?> eventType = this.eventTypes.get(id);
+            for (final Class<?> changedType : changedTypes) {
+                if (changedType.isAssignableFrom(eventType.getType())) {
+                    handlers[id] = this.bakeHandlers(eventType);
+                    break;
+                }
+            }
+        }
+        // Publish the updated entries
+        this.handlersById = handlers;
+    }
+
+    private void register(final List<RegisteredListener<? extends Event>> handlers) {
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             for (final RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changedTypes.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                this.rebakeHandlers(changedTypes);
+            }
         }
     }
 
     private void register(final RegisteredListener<? extends Event> handler) {
-        boolean changed = false;
-
         synchronized (this.lock) {
             final Class<?> raw = handler.getEventType().getType();
             if (this.handlersByEvent.put(raw, handler)) {
-                changed = true;
                 this.checker.registerListenerFor(raw);
+                this.rebakeHandlers(Collections.singleton(raw));
             }
         }
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+    protected AnnotatedEventListener.Factory createListenerFactory() {
+        if (SpongeConfigs.getCommon().get().optimizations.inlineEventListenerFilters) {
+            return new InlinedEventListenerFactory();
         }
+        return new ClassEventListenerFactory(FilterGenerator::create);
     }
 
     protected abstract MethodHandles.@Nullable Lookup getLookup(final PluginContainer plugin, final Class<?> handle);
@@ -251,7 +298,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
             }
         }
 
-        final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory(FilterGenerator::create);
+        final AnnotatedEventListener.Factory handlerFactory = this.createListenerFactory();
 
         try {
             final List<ListenerClassVisitor.DiscoveredMethod> methods = ListenerClassVisitor.getEventListenerMethods(handle);
@@ -347,23 +394,22 @@ public SpongeEventManager registerListeners(final PluginContainer plugin, final
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 final RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changedTypes.add(handler.getEventType().getType());
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                this.rebakeHandlers(changedTypes);
+            }
         }
     }
 
@@ -381,18 +427,33 @@ public SpongeEventManager unregisterListeners(final Object obj) {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         final Class<? extends Event> eventClass = Objects.requireNonNull(event, "event").getClass();
-        final EventType<? extends Event> eventType;
+        final int id;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType()));
+            final EventType<? extends Event> eventType =
+                    new EventType(eventClass, Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType()));
+            final @Nullable Integer genericId = this.genericEventTypeIds.get(eventType);
+            id = genericId == null ? this.eventTypeId(eventType) : genericId;
         } else {
-            eventType = new EventType(eventClass, null);
+            id = this.rawEventTypeIds.get(eventClass);
+        }
+        final RegisteredListener.@Nullable Cache[] handlers = this.handlersById;
+        if (id < handlers.length) {
+            final RegisteredListener.@Nullable Cache cache = handlers[id];
+            if (cache != null) {
+                return cache;
+            }
+        }
+        // The id was assigned by another thread and its entry is not
+        // visible yet, entries are always baked when ids are assigned.
+        synchronized (this.lock) {
+            return Objects.requireNonNull(this.handlersById[id]);
         }
-        return this.handlersCache.get(eventType);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected final boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
-        for (final RegisteredListener handler : handlers) {
+        for (int i = 0, size = handlers.size(); i < size; i++) {
+            final RegisteredListener handler = handlers.get(i);
             try (
                     final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
                     final @Nullable PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(handler.getPlugin())
@@ -404,7 +465,16 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                if (this.listenerTimings) {
+                    final long start = System.nanoTime();
+                    try {
+                        handler.handle(event);
+                    } finally {
+                        handler.recordInvocation(System.nanoTime() - start);
+                    }
+                } else {
+                    handler.handle(event);
+                }
             } catch (final Throwable e) {
                 SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
             }
@@ -415,6 +485,40 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    /**
+     * Gets whether the invocations of and the time spent in each listener
+     * are currently recorded.
+     *
+     * @return True if listener timings are enabled
+     */
+    public boolean listenerTimings() {
+        return this.listenerTimings;
+    }
+
+    /**
+     * Enables or disables recording the invocations of and the time spent
+     * in each listener. Enabling timings resets previously recorded ones.
+     *
+     * @param enabled Whether listener timings should be enabled
+     */
+    public void setListenerTimings(final boolean enabled) {
+        if (enabled && !this.listenerTimings) {
+            this.listeners().forEach(RegisteredListener::resetTimings);
+        }
+        this.listenerTimings = enabled;
+    }
+
+    /**
+     * Gets a snapshot of all currently registered listeners.
+     *
+     * @return The registered listeners
+     */
+    public List<RegisteredListener<?>> listeners() {
+        synchronized (this.lock) {
+            return new ArrayList<>(this.handlersByEvent.values());
+        }
+    }
+
     public static @Nullable EventListenerPhaseContext createListenerContext(@Nullable final PluginContainer plugin) {
         if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
             final EventListenerPhaseContext context = PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance());
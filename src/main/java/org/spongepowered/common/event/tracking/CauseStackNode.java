@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable entry of the cause stack, linking to the entry below it.
+ * Pushing creates a new head sharing everything below it and popping just
+ * moves back to the parent, so each node stays valid for as long as the
+ * stack beneath it is unchanged and can keep the {@link Cause} built from it.
+ * Alternating push/pop around events therefore only builds a cause once per
+ * distinct stack and context.
+ */
+final class CauseStackNode implements Iterable<Object> {
+
+    final Object value;
+    final @Nullable CauseStackNode parent;
+    final int size;
+
+    private @Nullable Cause snapshot;
+    private @Nullable EventContext snapshotContext;
+
+    CauseStackNode(final Object value, final @Nullable CauseStackNode parent) {
+        this.value = value;
+        this.parent = parent;
+        this.size = parent == null ? 1 : parent.size + 1;
+    }
+
+    Cause snapshot(final EventContext context) {
+        if (this.snapshot == null || this.snapshotContext != context) {
+            this.snapshot = Cause.of(context, this);
+            this.snapshotContext = context;
+        }
+        return this.snapshot;
+    }
+
+    /**
+     * Iterates from this node, the top of the stack, down to the bottom.
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<>() {
+            private @Nullable CauseStackNode next = CauseStackNode.this;
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public Object next() {
+                final @Nullable CauseStackNode current = this.next;
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                this.next = current.parent;
+                return current.value;
+            }
+        };
+    }
+}
@@ -202,7 +202,7 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
         INITIAL_POOL_SIZE = Math.max(0, Math.min(PhaseTracker.MAX_POOL_SIZE, initialPoolSize));
     }
 
-    private final Deque<Object> cause = Queues.newArrayDeque();
+    private @Nullable CauseStackNode cause;
     // Frames in use
     private final Deque<SpongeCauseStackFrame> frames = Queues.newArrayDeque();
     // Frames not currently in use
@@ -210,8 +210,8 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
     private final Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
     private int min_depth = 0;
     private int[] duplicateCauses = new int[100];
-    private @Nullable Cause cached_cause;
-    private @Nullable EventContext cached_ctx;
+    private @Nullable Cause cached_root_cause;
+    private ContextVersion contextVersion = new ContextVersion();
     private final AtomicBoolean pendingProviders = new AtomicBoolean(false);
     private @Nullable WeakReference<Thread> sidedThread;
     private boolean hasRun = false;
@@ -487,38 +487,52 @@ public String toString() {
     @Override
     public Cause currentCause() {
         this.enforceMainThread();
-        if (this.cached_cause == null || this.cached_ctx == null) {
-            if (this.cause.isEmpty()) {
-                this.cached_cause = Cause.of(this.currentContext(), SpongeCommon.game());
-            } else {
-                this.cached_cause = Cause.of(this.currentContext(), this.cause);
-            }
+        final EventContext context = this.currentContext();
+        if (this.cause != null) {
+            return this.cause.snapshot(context);
         }
-        return this.cached_cause;
+        if (this.cached_root_cause == null || this.cached_root_cause.context() != context) {
+            this.cached_root_cause = Cause.of(context, SpongeCommon.game());
+        }
+        return this.cached_root_cause;
     }
 
     @Override
     public EventContext currentContext() {
         this.enforceMainThread();
-        if (this.cached_ctx == null) {
-            this.cached_ctx = EventContext.of(this.ctx);
+        final ContextVersion version = this.contextVersion;
+        if (version.snapshot == null) {
+            version.snapshot = EventContext.of(this.ctx);
         }
-        return this.cached_ctx;
+        return version.snapshot;
+    }
+
+    private int causeSize() {
+        return this.cause == null ? 0 : this.cause.size;
+    }
+
+    private @Nullable Object causeHead() {
+        return this.cause == null ? null : this.cause.value;
+    }
+
+    private Object removeCauseHead() {
+        final CauseStackNode head = Objects.requireNonNull(this.cause, "Cause stack is empty");
+        this.cause = head.parent;
+        return head.value;
     }
 
     @Override
     public CauseStackManager pushCause(final Object obj) {
         Objects.requireNonNull(obj, "obj");
         this.enforceMainThread();
-        this.cached_cause = null;
-        if (this.cause.peek() == obj) {
+        if (this.causeHead() == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
             // This avoids some odd corner cases of the phase tracking system pushing
             // objects without being able to definitively say if the object is already pushed
             // without generating cause frames forcibly.
             // BUT, we do want to at least mark the index of the duplicated object for later popping (if some consumer is doing manual push and pops)
-            final int dupedIndex = this.cause.size();
+            final int dupedIndex = this.causeSize();
             if (this.duplicateCauses.length <= dupedIndex) {
                 // Make sure that we have enough space. If not, increase by 50%
                 this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (dupedIndex * 1.5));
@@ -528,28 +542,27 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
-        this.cause.push(obj);
+        this.cause = new CauseStackNode(obj, this.cause);
         return this;
     }
 
     @Override
     public Object popCause() {
         this.enforceMainThread();
-        final int size = this.cause.size();
+        final int size = this.causeSize();
         // First, check for duplicate causes. If there are duplicates,
         // we can artificially "pop" by just peeking.
         final int dupeCause = this.duplicateCauses[size];
         if (dupeCause > 0) {
             // Make sure to just decrement the duplicate causes.
             this.duplicateCauses[size] = dupeCause - 1;
-            return Objects.requireNonNull(this.cause.peek());
+            return Objects.requireNonNull(this.causeHead());
         }
         if (size <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                                                 + size + " but mid depth is " + this.min_depth + ")");
         }
-        this.cached_cause = null;
-        return this.cause.pop();
+        return this.removeCauseHead();
     }
 
     @Override
@@ -563,14 +576,14 @@ public void popCauses(final int n) {
     @Override
     public Object peekCause() {
         this.enforceMainThread();
-        return this.cause.peek();
+        return this.causeHead();
     }
 
     @Override
     public StackFrame pushCauseFrame() {
         this.enforceMainThread();
         // Ensure duplicate causes will be correctly sized.
-        final int size = this.cause.size();
+        final int size = this.causeSize();
         if (this.duplicateCauses.length <= size) {
             this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (size * 1.5));
         }
@@ -587,6 +600,7 @@ public StackFrame pushCauseFrame() {
             frame.old_min_depth = this.min_depth;
             frame.lastCauseSize = this.duplicateCauses[size];
         }
+        frame.contextVersion = this.contextVersion;
 
         this.frames.push(frame);
         this.min_depth = size;
@@ -663,18 +677,21 @@ public void popCauseFrame(final StackFrame oldFrame) {
 
         // Remove new values
         for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
-            this.cached_cause = null;
             if (entry.getValue() == null) { // wasn't present before, remove
                 this.ctx.remove(entry.getKey());
             } else { // was there, replace
                 this.ctx.put(entry.getKey(), entry.getValue());
             }
         }
+        // The context is now exactly what it was when the frame was pushed,
+        // so the snapshot taken back then (if any) is valid again.
+        if (frame.contextVersion != null) {
+            this.contextVersion = frame.contextVersion;
+        }
 
         // If there were any objects left on the stack then we pop them off
-        while (this.cause.size() > this.min_depth) {
-            final int index = this.cause.size();
+        while (this.causeSize() > this.min_depth) {
+            final int index = this.causeSize();
 
             // Then, only pop the potential duplicate causes (if any) if and only if
             // there was a duplicate cause pushed prior to the frame being popped.
@@ -684,13 +701,10 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 // And of course, reset the number of duplicates in the entry.
                 this.duplicateCauses[index] = 0;
             }
-            this.cause.pop();
-
-            // and clear the cached causes
-            this.cached_cause = null;
+            this.removeCauseHead();
         }
         this.min_depth = frame.old_min_depth;
-        final int size = this.cause.size();
+        final int size = this.causeSize();
         if (this.duplicateCauses.length > size) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
@@ -710,8 +724,7 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(value, "value");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        this.cached_cause = null;
+        this.contextVersion = new ContextVersion();
         final @Nullable Object existing = this.ctx.put(key, value);
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
@@ -730,8 +743,7 @@ public <T> Optional<T> context(final EventContextKey<T> key) {
     public <T> Optional<T> removeContext(final EventContextKey<T> key) {
         Objects.requireNonNull(key, "key");
         this.enforceMainThread();
-        this.cached_ctx = null;
-        this.cached_cause = null;
+        this.contextVersion = new ContextVersion();
         final Object existing = this.ctx.remove(key);
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
@@ -778,8 +790,6 @@ private void registerPhaseContextProvider(final PhaseContext<?> context) {
         Objects.requireNonNull(context.state.getFrameModifier(), "Consumer");
         // Reset our cached objects
         this.pendingProviders.compareAndSet(false, true); //I Reset the cache
-        this.cached_cause = null; // Reset the cache
-        this.cached_ctx = null; // Reset the cache
         // Since we cannot rely on the PhaseStack being tied to this stack of providers,
         // we have to make the tuple to tie the phase context to provide the consumer.
         this.phaseContextProviders.push(context);
@@ -802,4 +812,15 @@ void popFrameMutator(final PhaseContext<?> context) {
         }
 
     }
+
+    /**
+     * Identifies one state of the context map. Every change to the context
+     * starts a new version, while popping a frame goes back to the version
+     * the frame started with, so the lazily built {@link EventContext} is
+     * shared by everything that observes the same state.
+     */
+    static final class ContextVersion {
+
+        @Nullable EventContext snapshot;
+    }
 }
@@ -28,7 +28,6 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
@@ -49,13 +48,12 @@ public class SpongeFluidStack implements FluidStack, SpongeMutableDataHolder {
     private int volume;
     private @Nullable DataContainer extraData;
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     SpongeFluidStack(final SpongeFluidStackBuilder builder) {
         this.fluidType = builder.fluidType;
         this.volume = builder.volume;
         this.extraData = builder.extra == null ? null : builder.extra.copy();
         if (builder.keyValues != null) {
-            builder.keyValues.forEach((k, v) -> this.offer((Key) k, v));
+            this.offerAll(builder.keyValues);
         }
     }
 
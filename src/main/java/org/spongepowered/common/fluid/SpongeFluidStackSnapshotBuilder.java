@@ -104,8 +104,8 @@ public FluidStackSnapshot build() {
         }
         final SpongeFluidStackSnapshot snapshot = new SpongeFluidStackSnapshot(this);
         if (this.keyValues != null) {
-            final FluidStack stack = snapshot.createStack();
-            this.keyValues.forEach((k, v) -> stack.offer((Key) k, v));
+            final SpongeFluidStack stack = (SpongeFluidStack) snapshot.createStack();
+            stack.offerAll(this.keyValues);
             return stack.createSnapshot();
         }
         return snapshot;
@@ -24,10 +24,12 @@
  */
 package org.spongepowered.common.inventory.adapter;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.Slot;
 import org.spongepowered.common.inventory.adapter.impl.BasicInventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
@@ -66,6 +68,28 @@ public interface InventoryAdapter {
         return BasicInventoryAdapter.forSlot(this.inventoryAdapter$getFabric(), slotLens, (Inventory) this);
     }
 
+    /**
+     * Gets the journal of slot changes made to the fabric of this adapter,
+     * if one was {@link #inventoryAdapter$enableSlotChangeJournal() enabled}.
+     */
+    default @Nullable SlotChangeJournal inventoryAdapter$getSlotChangeJournal() {
+        return null;
+    }
+
+    /**
+     * Starts journaling slot changes made to the fabric of this adapter,
+     * returning the existing journal if there already is one.
+     *
+     * <p>Writes through the fabric, {@link net.minecraft.world.inventory.Slot}s
+     * and the {@code setItem}, {@code removeItem} and {@code clearContent}
+     * methods of the vanilla containers are journaled. Stacks that are
+     * modified in place, such as a hopper or {@code Inventory#add} growing a
+     * stack already in a slot, are only journaled once a menu on the
+     * container detects the change. Adapters that are not their own fabric
+     * return a view, see {@link SlotChangeJournal#enable(Fabric)}.</p>
+     */
+    SlotChangeJournal inventoryAdapter$enableSlotChangeJournal();
+
     // TODO check if this is needed?
     default void inventoryAdapter$setSpectatorChest(boolean spectatorChest) {}
 
@@ -30,6 +30,7 @@
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
@@ -45,6 +46,7 @@ public class QueryResultAdapter implements InventoryAdapter, DefaultImplementedA
     protected final SlotLensProvider slotLenses;
     protected final Lens lens;
     private @Nullable SlotCollection slotCollection;
+    private @Nullable SlotChangeJournal journal;
 
     protected @Nullable List<Inventory> children;
 
@@ -84,6 +86,19 @@ public Inventory parent() {
         return this.fabric;
     }
 
+    @Override
+    public @Nullable SlotChangeJournal inventoryAdapter$getSlotChangeJournal() {
+        return this.journal;
+    }
+
+    @Override
+    public SlotChangeJournal inventoryAdapter$enableSlotChangeJournal() {
+        if (this.journal == null) {
+            this.journal = SlotChangeJournal.enable(this.fabric);
+        }
+        return this.journal;
+    }
+
     @Override
     public List<Slot> slots() {
         if (this.slotCollection == null) {
@@ -54,6 +54,10 @@ public CompoundFabric(List<Inventory> children) {
                 .collect(Collectors.toList());
     }
 
+    public List<Fabric> fabrics() {
+        return this.fabrics;
+    }
+
     @Override
     public Collection<InventoryBridge> fabric$allInventories() {
         Set<InventoryBridge> inv = new HashSet<>();
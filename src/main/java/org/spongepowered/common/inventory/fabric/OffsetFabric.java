@@ -93,6 +93,10 @@ public Fabric fabric() {
         return fabric;
     }
 
+    public int offset() {
+        return this.offset;
+    }
+
     @Override
     public String toString() {
         return this.fabric.toString() + " offset: " + this.offset;
@@ -0,0 +1,261 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.fabric;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.inventory.adapter.InventoryAdapter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Records which slots of a {@link Fabric} were written to, stamped with a
+ * monotonically increasing version.
+ *
+ * <p>Consumers remember the {@link #version()} they last synchronized at and
+ * later ask for the slots {@link #changedSince(long) changed since} then,
+ * instead of comparing every {@link net.minecraft.world.item.ItemStack}.</p>
+ *
+ * <p>Journals are opt-in, see
+ * {@link InventoryAdapter#inventoryAdapter$enableSlotChangeJournal()}, and like
+ * the inventories they track must only be used from the main thread.
+ * Fabrics that are not adapters themselves, such as offset and compound
+ * fabrics, get a view over the journals of the fabrics they are made of.</p>
+ */
+public final class SlotChangeJournal {
+
+    // Shared by all journals, so stamps of different journals can be compared by views spanning several of them
+    private static long clock;
+
+    private long version;
+    private long[] stamps;
+    private final Segment @Nullable [] segments;
+
+    public SlotChangeJournal(final int size) {
+        this.stamps = new long[Math.max(size, 0)];
+        this.segments = null;
+    }
+
+    private SlotChangeJournal(final List<Segment> segments) {
+        this.stamps = new long[0];
+        this.segments = segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * Enables the journal of the given fabric, returning a view over the
+     * journals of its parts if it is not an {@link InventoryAdapter} itself.
+     *
+     * @param fabric The fabric
+     * @return The journal
+     * @throws UnsupportedOperationException If the fabric cannot be journaled
+     */
+    public static SlotChangeJournal enable(final Fabric fabric) {
+        if (fabric instanceof final InventoryAdapter adapter) {
+            return adapter.inventoryAdapter$enableSlotChangeJournal();
+        }
+        if (fabric instanceof final OffsetFabric offset) {
+            final List<Segment> segments = new ArrayList<>();
+            SlotChangeJournal.enable(offset.fabric()).slice(offset.offset(), offset.fabric$getSize() - offset.offset(), 0, segments);
+            return new SlotChangeJournal(segments);
+        }
+        if (fabric instanceof final CompoundFabric compound) {
+            final List<Segment> segments = new ArrayList<>();
+            int start = 0;
+            for (final Fabric child : compound.fabrics()) {
+                final int size = child.fabric$getSize();
+                SlotChangeJournal.enable(child).slice(0, size, start, segments);
+                start += size;
+            }
+            return new SlotChangeJournal(segments);
+        }
+        throw new UnsupportedOperationException("Slot change journal is not supported by " + fabric.getClass().getName());
+    }
+
+    /**
+     * Marks a slot of the given fabric as changed, if it has a journal.
+     *
+     * @param fabric The fabric written to
+     * @param index The slot index within the fabric
+     */
+    public static void mark(final Fabric fabric, final int index) {
+        final @Nullable SlotChangeJournal journal = SlotChangeJournal.of(fabric);
+        if (journal != null) {
+            journal.mark(index);
+        }
+    }
+
+    /**
+     * Marks every slot of the given fabric as changed, if it has a journal.
+     *
+     * @param fabric The fabric written to
+     */
+    public static void markAll(final Fabric fabric) {
+        final @Nullable SlotChangeJournal journal = SlotChangeJournal.of(fabric);
+        if (journal != null) {
+            journal.markAll();
+        }
+    }
+
+    private static @Nullable SlotChangeJournal of(final Fabric fabric) {
+        if (fabric instanceof final InventoryAdapter adapter) {
+            return adapter.inventoryAdapter$getSlotChangeJournal();
+        }
+        return null;
+    }
+
+    public void mark(final int index) {
+        if (index < 0) {
+            return;
+        }
+        if (this.segments != null) {
+            final @Nullable Segment segment = this.segment(index);
+            if (segment != null) {
+                segment.journal.mark(segment.offset + index - segment.start);
+            }
+            return;
+        }
+        if (index >= this.stamps.length) {
+            this.stamps = Arrays.copyOf(this.stamps, index + 1);
+        }
+        this.stamps[index] = this.version = ++SlotChangeJournal.clock;
+    }
+
+    public void markAll() {
+        if (this.segments != null) {
+            for (final Segment segment : this.segments) {
+                segment.journal.markRange(segment.offset, segment.size);
+            }
+            return;
+        }
+        Arrays.fill(this.stamps, this.version = ++SlotChangeJournal.clock);
+    }
+
+    private void markRange(final int from, final int size) {
+        if (from + size > this.stamps.length) {
+            this.stamps = Arrays.copyOf(this.stamps, from + size);
+        }
+        Arrays.fill(this.stamps, from, from + size, this.version = ++SlotChangeJournal.clock);
+    }
+
+    /**
+     * Gets the current version, which is the stamp of the latest change.
+     *
+     * @return The current version
+     */
+    public long version() {
+        if (this.segments != null) {
+            long version = 0;
+            for (final Segment segment : this.segments) {
+                version = Math.max(version, segment.journal.version);
+            }
+            return version;
+        }
+        return this.version;
+    }
+
+    /**
+     * Checks whether the slot at the given index changed after the given
+     * version.
+     *
+     * @param version The version last observed
+     * @param index The slot index
+     * @return True if the slot changed since then
+     */
+    public boolean changedSince(final long version, final int index) {
+        if (this.segments != null) {
+            final @Nullable Segment segment = index < 0 ? null : this.segment(index);
+            return segment != null && segment.journal.changedSince(version, segment.offset + index - segment.start);
+        }
+        return index >= 0 && index < this.stamps.length && this.stamps[index] > version;
+    }
+
+    /**
+     * Gets the indices of all slots changed after the given version.
+     *
+     * @param version The version last observed
+     * @return The changed slot indices
+     */
+    public BitSet changedSince(final long version) {
+        if (this.segments != null) {
+            final BitSet changed = new BitSet();
+            for (final Segment segment : this.segments) {
+                for (int i = 0; i < segment.size; i++) {
+                    if (segment.journal.changedSince(version, segment.offset + i)) {
+                        changed.set(segment.start + i);
+                    }
+                }
+            }
+            return changed;
+        }
+        final BitSet changed = new BitSet(this.stamps.length);
+        if (version >= this.version) {
+            return changed;
+        }
+        for (int i = 0; i < this.stamps.length; i++) {
+            if (this.stamps[i] > version) {
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
+    private @Nullable Segment segment(final int index) {
+        for (final Segment segment : this.segments) {
+            if (index < segment.start + segment.size) {
+                return index >= segment.start ? segment : null;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Appends the segments covering the given range of this journal, placed
+     * at start in the view, so views over views always point at the journals
+     * that are actually marked.
+     */
+    private void slice(final int from, final int size, final int start, final List<Segment> out) {
+        if (size <= 0) {
+            return;
+        }
+        if (this.segments == null) {
+            out.add(new Segment(this, from, start, size));
+            return;
+        }
+        for (final Segment segment : this.segments) {
+            final int lower = Math.max(from, segment.start);
+            final int upper = Math.min(from + size, segment.start + segment.size);
+            if (lower < upper) {
+                out.add(new Segment(segment.journal, segment.offset + lower - segment.start, start + lower - from, upper - lower));
+            }
+        }
+    }
+
+    // A range of a backing journal, starting at offset in that journal and at start in the view
+    private record Segment(SlotChangeJournal journal, int offset, int start, int size) {
+    }
+
+}
@@ -55,6 +55,7 @@ public interface UniversalFabric extends Fabric, InventoryBridge {
     @Override
     default void fabric$setStack(int index, ItemStack stack) {
         InventoryTranslators.getTranslator(this.getClass()).setStack(this, index, stack);
+        SlotChangeJournal.mark(this, index);
     }
 
     @Override default int fabric$getMaxStackSize() {
@@ -67,6 +68,7 @@ public interface UniversalFabric extends Fabric, InventoryBridge {
 
     @Override default void fabric$clear() {
         InventoryTranslators.getTranslator(this.getClass()).clear(this);
+        SlotChangeJournal.markAll(this);
         this.fabric$captureContainer();
     }
 
@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.inventory.lens.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.world.CompoundContainer;
@@ -51,6 +55,7 @@
 import net.minecraft.world.level.block.entity.SmokerBlockEntity;
 import net.minecraft.world.level.block.entity.TrappedChestBlockEntity;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.Key;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.comp.CraftingGridInventoryLens;
@@ -66,12 +71,17 @@
 import org.spongepowered.common.inventory.lens.impl.slot.BasicSlotLens;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
+import org.spongepowered.common.inventory.query.QueryPlan;
+import org.spongepowered.common.inventory.query.SpongeQuery;
 import org.spongepowered.common.inventory.util.ContainerUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -84,6 +94,14 @@ public class LensRegistrar {
 
     private static Map<Class<?>, LensFactory> lensFactories = new HashMap<>();
 
+    // Root Lens layout -> Query -> compiled QueryPlan
+    // Lenses do not hold any state of their own, so roots with the same layout share their plans,
+    // this includes the per-instance roots of player inventories, equipment and menus
+    private static final Map<LensLayout, Map<SpongeQuery, QueryPlan>> queryPlans = new ConcurrentHashMap<>();
+    // Root Lens -> layout, the root is weakly held so per-instance roots are not pinned
+    private static final Cache<Lens, LensLayout> layouts = Caffeine.newBuilder().weakKeys().build();
+    private static final Interner<LensLayout> layoutInterner = Interners.newWeakInterner();
+
 
     static {
 
@@ -154,6 +172,71 @@ public static Lens getLens(Object inventory, SlotLensProvider slotLensProvider,
         return LensRegistrar.getLenses(inventory.getClass()).computeIfAbsent(size, k -> LensRegistrar.generateLens(inventory, size, slotLensProvider));
     }
 
+    public static @Nullable QueryPlan getQueryPlan(final Lens root, final SpongeQuery query) {
+        final Map<SpongeQuery, QueryPlan> plans = LensRegistrar.queryPlans.get(LensRegistrar.layoutOf(root));
+        return plans == null ? null : plans.get(query);
+    }
+
+    public static void cacheQueryPlan(final Lens root, final SpongeQuery query, final QueryPlan plan) {
+        LensRegistrar.queryPlans.computeIfAbsent(LensRegistrar.layoutOf(root), layout -> new ConcurrentHashMap<>()).put(query, plan);
+    }
+
+    private static LensLayout layoutOf(final Lens root) {
+        return LensRegistrar.layouts.get(root, r -> {
+            final List<Object> nodes = new ArrayList<>();
+            LensRegistrar.describe(r, nodes);
+            // Share one layout instance between all roots describing it
+            return LensRegistrar.layoutInterner.intern(new LensLayout(nodes));
+        });
+    }
+
+    /**
+     * Describes everything of the lens tree a query can observe: the type,
+     * adapter type, offset and size of every lens and the data its parent
+     * holds for it, in the order the queries search them.
+     */
+    private static void describe(final Lens lens, final List<Object> nodes) {
+        nodes.add(lens.getClass());
+        nodes.add(lens.getAdapterType());
+        nodes.add(lens.base());
+        nodes.add(lens.slotCount());
+        final List<Lens> children = lens.getChildren();
+        nodes.add(children.size());
+        for (final Lens child : children) {
+            final @Nullable Map<Key<?>, Object> data = lens.getDataFor(child);
+            nodes.add(data == null ? Collections.emptyMap() : new HashMap<>(data));
+            LensRegistrar.describe(child, nodes);
+        }
+    }
+
+    private static final class LensLayout {
+
+        private final Object[] nodes;
+        private final int hash;
+
+        LensLayout(final List<Object> nodes) {
+            this.nodes = nodes.toArray();
+            this.hash = Arrays.hashCode(this.nodes);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LensLayout)) {
+                return false;
+            }
+            final LensLayout that = (LensLayout) o;
+            return this.hash == that.hash && Arrays.equals(this.nodes, that.nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
     private static Int2ObjectMap<Lens> getLenses(Class<?> inventory) {
         return LensRegistrar.lenses.computeIfAbsent(inventory, k -> new Int2ObjectOpenHashMap<>());
     }
@@ -29,6 +29,8 @@
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
+import org.spongepowered.common.inventory.lens.impl.slot.HeldHandSlotLens;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -45,11 +47,35 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
 
-        if (this.matches(lens, null, inventory)) {
-            return lens.getAdapter(fabric, inventory);
+        if (!this.isStructural()) {
+            if (this.matches(lens, null, inventory)) {
+                return lens.getAdapter(fabric, inventory);
+            }
+            return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        }
+
+        QueryPlan plan = LensRegistrar.getQueryPlan(lens, this);
+        if (plan == null) {
+            plan = this.compile(inventory, fabric, lens);
         }
+        return plan.execute(inventory, fabric);
+    }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+    private QueryPlan compile(Inventory inventory, Fabric fabric, Lens lens) {
+        if (this.matches(lens, null, inventory)) {
+            final QueryPlan plan = new QueryPlan(lens);
+            LensRegistrar.cacheQueryPlan(lens, this, plan);
+            return plan;
+        }
+        final Map<Lens, Integer> matches = this.depthFirstSearch(inventory, lens);
+        // The held hand slot resolves against the selected hotbar slot of the fabric,
+        // so a result containing it is only valid for this execution
+        final boolean dynamic = matches.keySet().stream().anyMatch(l -> l instanceof HeldHandSlotLens);
+        final QueryPlan plan = this.toPlan(this.reduce(fabric, lens, matches));
+        if (!dynamic) {
+            LensRegistrar.cacheQueryPlan(lens, this, plan);
+        }
+        return plan;
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -28,7 +28,6 @@
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.query.Query;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
-import org.spongepowered.common.inventory.EmptyInventoryImpl;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
@@ -115,21 +114,38 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
     }
 
     protected Inventory toResult(Inventory inventory, Fabric fabric, Map<Lens, Integer> matches) {
+        return this.toPlan(matches).execute(inventory, fabric);
+    }
+
+    protected QueryPlan toPlan(Map<Lens, Integer> matches) {
         if (matches.isEmpty()) {
-            return new EmptyInventoryImpl(inventory);
+            return QueryPlan.EMPTY;
         }
         if (matches.size() == 1) {
             final Map.Entry<Lens, Integer> entry = matches.entrySet().iterator().next();
             if (entry.getValue() == 0) {
-                return entry.getKey().getAdapter(fabric, inventory);
+                return new QueryPlan(entry.getKey());
             }
             final LensRegistrar.BasicSlotLensProvider slotProvider = new LensRegistrar.BasicSlotLensProvider(entry.getKey().slotCount());
             // TODO check correct slotprovider
-            final DelegatingLens delegate = new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
-            return delegate.getAdapter(fabric, inventory);
+            return new QueryPlan(new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider));
         }
 
-        final QueryLens lens = new QueryLens(matches, this);
-        return lens.getAdapter(fabric, inventory);
+        return new QueryPlan(new QueryLens(matches, this));
+    }
+
+    /**
+     * Whether the result of this query depends only on the lens structure of
+     * the queried inventory and not on its contents. Such queries are compiled
+     * once per root lens and the resulting {@link QueryPlan} is cached in the
+     * {@link LensRegistrar}.
+     *
+     * <p>Implementations returning {@code true} must also implement
+     * {@link #equals(Object)} and {@link #hashCode()}.</p>
+     *
+     * @return Whether this query can be cached
+     */
+    public boolean isStructural() {
+        return false;
     }
 }
@@ -67,5 +67,35 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         return new MultiInventoryAdapter(results);
     }
 
+    /**
+     * An appended query is structural when all the appended queries are, each
+     * of them is then resolved through its own cached plan.
+     */
+    @Override
+    public boolean isStructural() {
+        for (final Query query : this.queryList) {
+            if (!(query instanceof SpongeQuery) || !((SpongeQuery) query).isStructural()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.queryList.equals(((AppendQuery) o).queryList);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.queryList.hashCode();
+    }
+
 
 }
@@ -37,6 +37,7 @@
 import org.spongepowered.api.network.EngineConnectionSide;
 import org.spongepowered.api.network.channel.ChannelBuf;
 import org.spongepowered.api.network.channel.packet.Packet;
+import org.spongepowered.common.network.channel.SpongeChannel;
 import org.spongepowered.common.network.channel.SpongeChannelPayload;
 
 import java.lang.invoke.MethodHandle;
@@ -83,6 +84,17 @@ public static net.minecraft.network.protocol.Packet<?> createPlayPayload(final C
         }
     }
 
+    public static net.minecraft.network.protocol.Packet<?> createPlayPayload(final SpongeChannel channel, final ChannelBuf payload, final EngineConnectionSide<?> side) {
+        final SpongeChannelPayload channelPayload = SpongeChannelPayload.outgoing(channel, (FriendlyByteBuf) payload);
+        if (side == EngineConnectionSide.CLIENT) {
+            return new ServerboundCustomPayloadPacket(channelPayload);
+        } else if (side == EngineConnectionSide.SERVER) {
+            return new ClientboundCustomPayloadPacket(channelPayload);
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     // TODO: Use Lmbda instead?
     public static <P extends Packet> Supplier<P> getConstructor(final Class<P> packetClass) {
         final Constructor<P> constructor;
@@ -43,6 +43,18 @@ public static boolean release(final ChannelBuf buf) {
         return ((ByteBuf) buf).release();
     }
 
+    /**
+     * Creates a view of the readable bytes of the given buffer with its own
+     * reader and writer index, sharing the content of the buffer. The slice
+     * must be released on its own.
+     *
+     * @param buf The buffer
+     * @return The retained slice
+     */
+    public static ChannelBuf retainedSlice(final ChannelBuf buf) {
+        return ChannelBuffers.wrap(((ByteBuf) buf).retainedSlice());
+    }
+
     public static void write(final ChannelBuf target, final ChannelBuf source) {
         ((FriendlyByteBuf) target).writeBytes((FriendlyByteBuf) source);
     }
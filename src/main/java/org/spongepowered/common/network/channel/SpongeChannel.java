@@ -59,6 +59,7 @@ public abstract class SpongeChannel implements Channel {
     private final Logger logger;
     private final int type;
     private final CustomPacketPayload.Type<SpongeChannelPayload> payloadType;
+    private final SpongeChannelMetrics metrics = new SpongeChannelMetrics();
 
     private volatile ChannelExceptionHandler<EngineConnectionState> exceptionHandler =
             ChannelExceptionHandler.logEverything().suppress(ChannelNotSupportedException.class);
@@ -83,6 +84,10 @@ public CustomPacketPayload.Type<SpongeChannelPayload> payloadType() {
         return this.payloadType;
     }
 
+    public SpongeChannelMetrics metrics() {
+        return this.metrics;
+    }
+
     @Override
     public SpongeChannelManager manager() {
         return this.manager;
@@ -284,10 +284,12 @@ public boolean handlePlayPayload(final EngineConnection connection, final Engine
             return false;
         }
         final ResourceKey channel = (ResourceKey) (Object) payload.type().id();
-        final ChannelBuf buf = this.bufferAllocator.buffer();
-        ((FriendlyByteBuf) buf).writeBytes(spongeChannelPayload.payload().copy());
-
-        return this.handlePlayPayload(connection, state, channel, buf);
+        // Handled straight from the received buffer, without copying it
+        try {
+            return this.handlePlayPayload(connection, state, channel, ChannelBuffers.wrap(spongeChannelPayload.payload()));
+        } finally {
+            spongeChannelPayload.release();
+        }
     }
 
     private void handleRegisterChannel(final EngineConnection connection, final ChannelBuf payload,
@@ -318,11 +320,8 @@ private boolean handlePlayPayload(final EngineConnection connection, final Engin
         }
         final SpongeChannel channel = this.channels.get(channelKey);
         if (channel != null) {
-            try {
-                channel.handlePlayPayload(connection, state, payload);
-            } finally {
-                ChannelBuffers.release(payload);
-            }
+            channel.metrics().recordIn(payload.readableBytes());
+            channel.handlePlayPayload(connection, state, payload);
             return true;
         } else {
             return false;
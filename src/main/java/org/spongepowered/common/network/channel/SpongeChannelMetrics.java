@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.channel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Traffic counters of a single {@link SpongeChannel}.
+ */
+public final class SpongeChannelMetrics {
+
+    private final LongAdder packetsIn = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder packetsOut = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder buffersAcquired = new LongAdder();
+    private final LongAdder buffersReleased = new LongAdder();
+    private final LongAdder pendingTransactions = new LongAdder();
+    private final LongAdder transactionTimeouts = new LongAdder();
+
+    void recordIn(final int bytes) {
+        this.packetsIn.increment();
+        this.bytesIn.add(bytes);
+    }
+
+    void recordOut(final int bytes) {
+        this.packetsOut.increment();
+        this.bytesOut.add(bytes);
+    }
+
+    void bufferAcquired() {
+        this.buffersAcquired.increment();
+    }
+
+    void bufferReleased() {
+        this.buffersReleased.increment();
+    }
+
+    void transactionStarted() {
+        this.pendingTransactions.increment();
+    }
+
+    void transactionCompleted() {
+        this.pendingTransactions.decrement();
+    }
+
+    void transactionTimedOut() {
+        this.pendingTransactions.decrement();
+        this.transactionTimeouts.increment();
+    }
+
+    public long packetsIn() {
+        return this.packetsIn.sum();
+    }
+
+    public long bytesIn() {
+        return this.bytesIn.sum();
+    }
+
+    public long packetsOut() {
+        return this.packetsOut.sum();
+    }
+
+    public long bytesOut() {
+        return this.bytesOut.sum();
+    }
+
+    /**
+     * Gets the number of outgoing payload buffers that have been handed to a
+     * connection but have not been written or handled yet. A number that
+     * keeps growing means that payload buffers are being leaked.
+     *
+     * @return The number of outstanding buffers
+     */
+    public long outstandingBuffers() {
+        return this.buffersAcquired.sum() - this.buffersReleased.sum();
+    }
+
+    /**
+     * Gets the number of transactions of this channel that are waiting for a
+     * response, across all connections.
+     *
+     * @return The number of pending transactions
+     */
+    public long pendingTransactions() {
+        return this.pendingTransactions.sum();
+    }
+
+    public long transactionTimeouts() {
+        return this.transactionTimeouts.sum();
+    }
+}
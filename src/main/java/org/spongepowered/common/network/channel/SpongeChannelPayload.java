@@ -27,22 +27,57 @@
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-public record SpongeChannelPayload(Type<? extends CustomPacketPayload> type, FriendlyByteBuf payload) implements CustomPacketPayload {
+/**
+ * The payload of a custom packet of a {@link SpongeChannel}.
+ *
+ * <p>The payload buffer is owned by this object. It is released once it has
+ * been written to the connection or handled by the channel.</p>
+ */
+public record SpongeChannelPayload(Type<? extends CustomPacketPayload> type, FriendlyByteBuf payload,
+        @Nullable SpongeChannelMetrics metrics) implements CustomPacketPayload {
+
+    public SpongeChannelPayload(final Type<? extends CustomPacketPayload> type, final FriendlyByteBuf payload) {
+        this(type, payload, null);
+    }
+
+    public static SpongeChannelPayload outgoing(final SpongeChannel channel, final FriendlyByteBuf payload) {
+        channel.metrics().bufferAcquired();
+        return new SpongeChannelPayload(channel.payloadType(), payload, channel.metrics());
+    }
 
     public static StreamCodec<FriendlyByteBuf, SpongeChannelPayload> streamCodec(final Type<? extends CustomPacketPayload> type, final int maxPayloadSize) {
         return CustomPacketPayload.codec(
                 SpongeChannelPayload::write, (b) -> {
                     int readableBytes = b.readableBytes();
                     if (readableBytes >= 0 && readableBytes <= maxPayloadSize) {
-                        return new SpongeChannelPayload(type, new FriendlyByteBuf(b.readBytes(b.readableBytes())));
+                        // Keep reading from the network buffer instead of copying it
+                        return new SpongeChannelPayload(type, new FriendlyByteBuf(b.readRetainedSlice(readableBytes)));
                     }
                     throw new IllegalArgumentException("Payload may not be larger than " + maxPayloadSize + " bytes");
                 });
     }
 
     private void write(FriendlyByteBuf $$0) {
+        final int bytes = this.payload.readableBytes();
         $$0.writeBytes(this.payload);
+        if (this.metrics != null) {
+            this.metrics.recordOut(bytes);
+        }
+        this.release();
+    }
+
+    /**
+     * Releases the payload buffer.
+     */
+    public void release() {
+        if (this.payload.refCnt() > 0) {
+            this.payload.release();
+            if (this.metrics != null) {
+                this.metrics.bufferReleased();
+            }
+        }
     }
 
     @Override
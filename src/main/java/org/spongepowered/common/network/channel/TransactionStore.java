@@ -24,41 +24,51 @@
  */
 package org.spongepowered.common.network.channel;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionState;
 import org.spongepowered.api.network.channel.TimeoutException;
 import org.spongepowered.common.network.SpongeEngineConnection;
+import org.spongepowered.common.util.Constants;
 
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A storage for transaction id mappings.
  */
 public final class TransactionStore {
 
+    private static final long TIMEOUT_SECONDS = 15;
+
+    /**
+     * The timer that expires the transactions of all the connections, a
+     * timeout only costs a slot in the wheel until it fires or is cancelled.
+     */
+    private static final Timer TIMER = new HashedWheelTimer(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-Transaction-Timer")
+            .build(), 100, TimeUnit.MILLISECONDS, 256);
+
     private final EngineConnection connection;
 
-    private final ConcurrentMap<Integer, Entry> lookup = Caffeine.newBuilder()
-            .expireAfterAccess(15, TimeUnit.SECONDS)
-            .removalListener((RemovalListener<Integer, Entry>) (key, value, cause) -> {
-                if (cause == RemovalCause.EXPIRED && value != null) {
-                    final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) this.connection()).connection().getPacketListener();
-                    value.getChannel().handleTransactionResponse(
-                        this.connection(), state, value.getData(), TransactionResult.failure(new TimeoutException()));
-                }
-            })
-            .build().asMap();
+    // Guarded by itself
+    private final Int2ObjectMap<Entry> lookup = new Int2ObjectOpenHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(ThreadLocalRandom.current().nextInt());
 
     public static class Entry {
 
         private final SpongeChannel channel;
         private final Object data;
+        private volatile @Nullable Timeout timeout;
 
         public Entry(final SpongeChannel channel, final Object data) {
             this.channel = channel;
@@ -72,6 +82,13 @@ public SpongeChannel getChannel() {
         public Object getData() {
             return this.data;
         }
+
+        void cancelTimeout() {
+            final @Nullable Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
     }
 
     public TransactionStore(final EngineConnection connection) {
@@ -94,11 +111,11 @@ public EngineConnection connection() {
      */
     public int nextId() {
         // TODO: Hook into forge to avoid id overlap
+        // Ids start at a random value and only repeat after wrapping around
         int id;
-        final ThreadLocalRandom random = ThreadLocalRandom.current();
         do {
-            id = random.nextInt();
-        } while (this.lookup.containsKey(id));
+            id = this.nextId.getAndIncrement();
+        } while (id == Constants.Channels.LOGIN_PAYLOAD_TRANSACTION_ID || id == Constants.Channels.LOGIN_PAYLOAD_IGNORED_TRANSACTION_ID);
         return id;
     }
 
@@ -111,7 +128,34 @@ public int nextId() {
      * @param stored The stored data
      */
     public void put(final int transactionId, final SpongeChannel channel, final Object stored) {
-        this.lookup.put(transactionId, new Entry(channel, stored));
+        final Entry entry = new Entry(channel, stored);
+        final @Nullable Entry previous;
+        synchronized (this.lookup) {
+            previous = this.lookup.put(transactionId, entry);
+        }
+        if (previous != null) {
+            previous.cancelTimeout();
+            previous.channel.metrics().transactionCompleted();
+        }
+        channel.metrics().transactionStarted();
+        entry.timeout = TransactionStore.TIMER.newTimeout(timeout -> this.expire(transactionId, entry),
+                TransactionStore.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void expire(final int transactionId, final Entry entry) {
+        synchronized (this.lookup) {
+            if (this.lookup.get(transactionId) != entry) {
+                return;
+            }
+            this.lookup.remove(transactionId);
+        }
+        entry.channel.metrics().transactionTimedOut();
+        // Keep the timer thread free for other timeouts
+        ForkJoinPool.commonPool().execute(() -> {
+            final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) this.connection()).connection().getPacketListener();
+            entry.getChannel().handleTransactionResponse(
+                this.connection(), state, entry.getData(), TransactionResult.failure(new TimeoutException()));
+        });
     }
 
     /**
@@ -122,7 +166,15 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
      * @return The stored value
      */
     public @Nullable Entry remove(final int transactionId) {
-        return this.lookup.remove(transactionId);
+        final @Nullable Entry entry;
+        synchronized (this.lookup) {
+            entry = this.lookup.remove(transactionId);
+        }
+        if (entry != null) {
+            entry.cancelTimeout();
+            entry.channel.metrics().transactionCompleted();
+        }
+        return entry;
     }
 
     /**
@@ -131,6 +183,8 @@ public void put(final int transactionId, final SpongeChannel channel, final Obje
      * @return Is empty
      */
     public boolean isEmpty() {
-        return this.lookup.isEmpty();
+        synchronized (this.lookup) {
+            return this.lookup.isEmpty();
+        }
     }
 }
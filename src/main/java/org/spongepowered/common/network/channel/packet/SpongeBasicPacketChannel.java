@@ -207,7 +207,7 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
                 return future;
             }
 
-            final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createPlayPayload(SpongeBasicPacketChannel.this.payloadType(), payload, connection.side());
+            final net.minecraft.network.protocol.Packet<?> mcPacket = PacketUtil.createPlayPayload(SpongeBasicPacketChannel.this, payload, connection.side());
             PacketSender.sendTo(connection, mcPacket, future);
             return future;
         }
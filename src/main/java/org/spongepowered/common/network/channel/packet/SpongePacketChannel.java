@@ -42,6 +42,7 @@
 import org.spongepowered.api.network.channel.packet.RequestPacketHandler;
 import org.spongepowered.common.network.PacketUtil;
 import org.spongepowered.common.network.SpongeEngineConnection;
+import org.spongepowered.common.network.channel.ChannelBuffers;
 import org.spongepowered.common.network.channel.ConnectionUtil;
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.SpongeChannelManager;
@@ -49,6 +50,11 @@
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -135,7 +141,7 @@ public void write(FriendlyByteBuf var1) {
         } else {
             payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_REQUEST, transactionId));
             payload.writeVarInt(binding.opcode());
-            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this, payload, side);
         }
 
         try {
@@ -199,7 +205,7 @@ public void write(FriendlyByteBuf var1) {
                 }
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(type, transactionId));
-                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this, payload, side);
             }
         } else {
             // Dynamic opcode
@@ -229,7 +235,7 @@ public void write(FriendlyByteBuf var1) {
             } else {
                 payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_DYNAMIC_RESPONSE, transactionId));
                 payload.writeVarInt(opcode);
-                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+                mcPacketSupplier = () -> PacketUtil.createPlayPayload(this, payload, side);
             }
         }
 
@@ -281,7 +287,7 @@ public void write(FriendlyByteBuf var1) {
             }
         } else {
             payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
-            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this.payloadType(), payload, side);
+            mcPacketSupplier = () -> PacketUtil.createPlayPayload(this, payload, side);
         }
 
         try {
@@ -328,6 +334,60 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
         return future;
     }
 
+    /**
+     * Sends the packet to all the given connections. The packet is encoded
+     * only once for all the connections in the play phase, which share the
+     * encoded payload.
+     *
+     * @param connections The connections to send the packet to
+     * @param packet The packet
+     * @return The futures completed once the packet is sent, by connection
+     */
+    public Map<EngineConnection, CompletableFuture<Void>> sendTo(final Collection<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+        final SpongePacketBinding<Packet> binding = (SpongePacketBinding) this.requireBinding(packet.getClass());
+
+        final Map<EngineConnection, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        final List<EngineConnection> playConnections = new ArrayList<>(connections.size());
+        for (final EngineConnection connection : connections) {
+            if (packet instanceof RequestPacket || ConnectionUtil.isLoginPhase(connection)) {
+                // Transactions and login payloads are specific to every connection
+                futures.put(connection, this.sendTo(connection, packet));
+                continue;
+            }
+            final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            futures.put(connection, future);
+            if (this.checkSupported(connection, state, future)) {
+                playConnections.add(connection);
+            }
+        }
+        if (playConnections.isEmpty()) {
+            return futures;
+        }
+
+        final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+        payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
+        try {
+            this.encodePayload(payload, packet);
+        } catch (final Throwable ex) {
+            for (final EngineConnection connection : playConnections) {
+                futures.get(connection).completeExceptionally(ex);
+            }
+            return futures;
+        }
+
+        for (final EngineConnection connection : playConnections) {
+            // Every packet reads the shared payload through its own slice
+            final net.minecraft.network.protocol.Packet<?> mcPacket =
+                    PacketUtil.createPlayPayload(this, ChannelBuffers.retainedSlice(payload), connection.side());
+            PacketSender.sendTo(connection, mcPacket, futures.get(connection));
+        }
+        ChannelBuffers.release(payload);
+        return futures;
+    }
+
     private void handleResponsePacket(final EngineConnection connection, final EngineConnectionState state, final int transactionId, final @Nullable ChannelBuf payload,
             final int dynamicOpcode) {
         final TransactionStore store = ConnectionUtil.getTransactionStore(connection);
@@ -32,12 +32,15 @@
 import org.spongepowered.api.network.channel.raw.play.RawPlayDataHandler;
 import org.spongepowered.common.network.PacketUtil;
 import org.spongepowered.common.network.SpongeEngineConnection;
+import org.spongepowered.common.network.channel.ChannelBuffers;
 import org.spongepowered.common.network.channel.ConcurrentMultimap;
 import org.spongepowered.common.network.channel.ConnectionUtil;
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.SpongeChannel;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -106,11 +109,53 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
             return future;
         }
 
-        final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent.payloadType(), payload, connection.side());
+        final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent, payload, connection.side());
         PacketSender.sendTo(connection, mcPacket, future);
         return future;
     }
 
+    /**
+     * Sends the payload to all the given connections. The payload is written
+     * only once and shared by the packets of all the connections.
+     *
+     * @param connections The connections to send the payload to
+     * @param consumer The payload writer
+     * @return The futures completed once the payload is sent, by connection
+     */
+    public Map<EngineConnection, CompletableFuture<Void>> sendTo(final Collection<? extends EngineConnection> connections,
+            final Consumer<ChannelBuf> consumer) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(consumer, "payload");
+
+        for (final EngineConnection connection : connections) {
+            ConnectionUtil.checkPlayPhase(connection);
+        }
+
+        final Map<EngineConnection, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (final EngineConnection connection : connections) {
+            futures.put(connection, new CompletableFuture<>());
+        }
+        final ChannelBuf payload;
+        try {
+            payload = this.parent.encodePayload(consumer);
+        } catch (final Throwable ex) {
+            for (final Map.Entry<EngineConnection, CompletableFuture<Void>> entry : futures.entrySet()) {
+                final EngineConnection connection = entry.getKey();
+                final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
+                this.parent.handleException(connection, state, ex, entry.getValue());
+            }
+            return futures;
+        }
+
+        for (final Map.Entry<EngineConnection, CompletableFuture<Void>> entry : futures.entrySet()) {
+            final EngineConnection connection = entry.getKey();
+            final Packet<?> mcPacket = PacketUtil.createPlayPayload(this.parent, ChannelBuffers.retainedSlice(payload), connection.side());
+            PacketSender.sendTo(connection, mcPacket, entry.getValue());
+        }
+        ChannelBuffers.release(payload);
+        return futures;
+    }
+
     private <S extends EngineConnectionState> Collection<RawPlayDataHandler<? super S>> getHandlers(final S state) {
         return (Collection) SpongeChannel.getResponseHandlers(state, this.handlers.get());
     }
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.common.SpongeCommon;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs a batch of registry loaders on the calling thread, in declaration
+ * order, timing how long each one takes to build and to register.
+ *
+ * <p>Loaders run serially. Several of them read vanilla statics or
+ * initialize API catalog classes while the holder is being mutated, so
+ * none of them is known to be safe to build on another thread.</p>
+ */
+final class RegistryBootstrap {
+
+    private final String phase;
+    private final SpongeRegistryHolder holder;
+    private final List<Stage<?>> stages = new ArrayList<>();
+
+    RegistryBootstrap(final String phase, final SpongeRegistryHolder holder) {
+        this.phase = phase;
+        this.holder = holder;
+    }
+
+    /**
+     * Runs the given action as its own stage.
+     */
+    RegistryBootstrap serial(final String name, final Consumer<SpongeRegistryHolder> action) {
+        this.stages.add(new Stage<>(name, () -> null, (holder, ignored) -> action.accept(holder)));
+        return this;
+    }
+
+    <T> RegistryBootstrap frozen(final RegistryType<T> type, final Supplier<RegistryLoader<T>> loader) {
+        return this.registry(type, loader, (holder, l) -> holder.createFrozenRegistry(type, l));
+    }
+
+    <T> RegistryBootstrap replacingFrozen(final RegistryType<T> type, final Supplier<RegistryLoader<T>> loader) {
+        return this.registry(type, loader, (holder, l) -> holder.createOrReplaceFrozenRegistry(type, l));
+    }
+
+    <T> RegistryBootstrap dynamic(final RegistryType<T> type, final Supplier<@Nullable RegistryLoader<T>> loader) {
+        return this.registry(type, loader, (holder, l) -> holder.createRegistry(type, l, true));
+    }
+
+    private <T> RegistryBootstrap registry(final RegistryType<T> type, final Supplier<@Nullable RegistryLoader<T>> loader,
+            final BiConsumer<SpongeRegistryHolder, @Nullable RegistryLoader<T>> register) {
+        this.stages.add(new Stage<>(type.location().asString(), loader, register));
+        return this;
+    }
+
+    void run() {
+        final long start = System.nanoTime();
+        for (final Stage<?> stage : this.stages) {
+            stage.run(this.holder);
+        }
+        this.report(System.nanoTime() - start);
+    }
+
+    private void report(final long elapsed) {
+        SpongeCommon.logger().info("Loaded {} {} registries in {} ms", this.stages.size(), this.phase, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        if (SpongeCommon.logger().isDebugEnabled()) {
+            this.stages.stream()
+                    .sorted(Comparator.comparingLong((Stage<?> stage) -> stage.buildNanos + stage.registerNanos).reversed())
+                    .forEach(stage -> SpongeCommon.logger().debug("  {}: load {} us, register {} us", stage.name,
+                            TimeUnit.NANOSECONDS.toMicros(stage.buildNanos), TimeUnit.NANOSECONDS.toMicros(stage.registerNanos)));
+        }
+    }
+
+    private static final class Stage<L> {
+
+        final String name;
+        private final Supplier<@Nullable L> loader;
+        private final BiConsumer<SpongeRegistryHolder, @Nullable L> register;
+        long buildNanos;
+        long registerNanos;
+
+        Stage(final String name, final Supplier<@Nullable L> loader, final BiConsumer<SpongeRegistryHolder, @Nullable L> register) {
+            this.name = name;
+            this.loader = loader;
+            this.register = register;
+        }
+
+        void run(final SpongeRegistryHolder holder) {
+            final long buildStart = System.nanoTime();
+            final @Nullable L loader = this.loader.get();
+            final long registerStart = System.nanoTime();
+            this.buildNanos = registerStart - buildStart;
+            this.register.accept(holder, loader);
+            this.registerNanos = System.nanoTime() - registerStart;
+        }
+    }
+
+}
@@ -48,6 +48,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -55,9 +56,32 @@
 
 public final class RegistryHolderLogic implements RegistryHolder {
 
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
     private final Map<ResourceKey, net.minecraft.core.Registry<net.minecraft.core.Registry<?>>> roots = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Gets the current registry generation. This changes whenever a holder is
+     * created, a registry is created or replaced, registries are frozen or
+     * data packs are reloaded, so anything memoized against a value read
+     * from a registry holder is stale once the generation moves on.
+     *
+     * @return The current generation
+     */
+    public static int generation() {
+        return RegistryHolderLogic.GENERATION.get();
+    }
+
+    /**
+     * Advances the registry generation, invalidating values memoized by
+     * {@link SpongeDefaultedRegistryReference}s.
+     */
+    public static void advanceGeneration() {
+        RegistryHolderLogic.GENERATION.incrementAndGet();
+    }
+
     public RegistryHolderLogic() {
+        RegistryHolderLogic.advanceGeneration();
         this.roots.put(
             (ResourceKey) (Object) new ResourceLocation("minecraft", "root"),
             new MappedRegistry<>(
@@ -86,10 +110,12 @@ public RegistryHolderLogic(final RegistryAccess dynamicAccess) {
 
         dynamicAccess.registries().forEach(entry -> root.register(entry.key(), entry.value(), RegistrationInfo.BUILT_IN));
         root.freeze();
+        RegistryHolderLogic.advanceGeneration();
     }
 
     public void setRootMinecraftRegistry(final net.minecraft.core.Registry<net.minecraft.core.Registry<?>> rootRegistry) {
         this.roots.put(RegistryRoots.MINECRAFT, rootRegistry);
+        RegistryHolderLogic.advanceGeneration();
     }
 
     @Override
@@ -209,15 +235,18 @@ public <T> Registry<T> createRegistry(final RegistryType<T> type, final @Nullabl
             ((CallbackRegistry<?>) registry).setCallbackEnabled(true);
         }
         ((MappedRegistryAccessor<T>) root).accessor$frozen(frozen);
+        RegistryHolderLogic.advanceGeneration();
 
         return (Registry<T>) registry;
     }
 
     public void freezeSpongeRootRegistry() {
         this.roots.get(RegistryRoots.SPONGE).freeze();
+        RegistryHolderLogic.advanceGeneration();
     }
 
     public void freezeSpongeDynamicRegistries() {
         this.roots.get(RegistryRoots.SPONGE).forEach(net.minecraft.core.Registry::freeze);
+        RegistryHolderLogic.advanceGeneration();
     }
 }
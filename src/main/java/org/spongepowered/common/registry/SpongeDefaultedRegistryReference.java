@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.registry;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.registry.DefaultedRegistryReference;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
@@ -36,6 +37,7 @@
 public final class SpongeDefaultedRegistryReference<T> extends SpongeRegistryReference<T> implements DefaultedRegistryReference<T> {
 
     private final Supplier<RegistryHolder> defaultHolder;
+    private @Nullable Resolved<T> resolved;
 
     public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier<RegistryHolder> defaultHolder) {
         super(key);
@@ -45,7 +47,14 @@ public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier
 
     @Override
     public T get() {
-        return this.defaultHolder.get().registry(this.registry()).value(this.location());
+        final int generation = RegistryHolderLogic.generation();
+        final @Nullable Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.generation == generation) {
+            return resolved.value;
+        }
+        final T value = this.defaultHolder.get().registry(this.registry()).value(this.location());
+        this.resolved = new Resolved<>(generation, value);
+        return value;
     }
 
     @Override
@@ -58,4 +67,16 @@ public Optional<T> find() {
     public Supplier<RegistryHolder> defaultHolder() {
         return this.defaultHolder;
     }
+
+    // Immutable so a racing reader sees either the old or the new pair, never a mix of both
+    private static final class Resolved<T> {
+
+        final int generation;
+        final T value;
+
+        Resolved(final int generation, final T value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
 }
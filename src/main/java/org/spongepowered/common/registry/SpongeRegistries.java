@@ -41,59 +41,62 @@ public final class SpongeRegistries {
 
     // During Bootstrap
     public static void registerEarlyGlobalRegistries(final SpongeRegistryHolder holder) {
-        // Vanilla
-        VanillaRegistryLoader.load(holder);
+        final RegistryBootstrap bootstrap = new RegistryBootstrap("early global", holder)
+                // Vanilla
+                .serial("minecraft enum registries", VanillaRegistryLoader::load)
 
-        // Internal
-        holder.createFrozenRegistry(SpongeRegistryTypes.TRACKER_TRANSACTION_TYPE, SpongeCommonRegistryLoader.blockTransactionTypes());
-        holder.createFrozenRegistry(SpongeRegistryTypes.VALIDATION_TYPE, SpongeCommonRegistryLoader.validationType());
+                // Internal
+                .frozen(SpongeRegistryTypes.TRACKER_TRANSACTION_TYPE, SpongeCommonRegistryLoader::blockTransactionTypes)
+                .frozen(SpongeRegistryTypes.VALIDATION_TYPE, SpongeCommonRegistryLoader::validationType)
 
-        // Commands
-        holder.createFrozenRegistry(RegistryTypes.CLIENT_COMPLETION_TYPE, CommandRegistryLoader.clientCompletionType());
-        holder.createFrozenRegistry(RegistryTypes.COMMAND_COMPLETION_PROVIDER, CommandRegistryLoader.clientSuggestionProvider());
-        holder.createFrozenRegistry(RegistryTypes.OPERATOR, CommandRegistryLoader.operator());
-        holder.createFrozenRegistry(RegistryTypes.SELECTOR_TYPE, CommandRegistryLoader.selectorType());
-        holder.createFrozenRegistry(RegistryTypes.SELECTOR_SORT_ALGORITHM, CommandRegistryLoader.selectorSortAlgorithm());
+                // Commands
+                .frozen(RegistryTypes.CLIENT_COMPLETION_TYPE, CommandRegistryLoader::clientCompletionType)
+                .frozen(RegistryTypes.COMMAND_COMPLETION_PROVIDER, CommandRegistryLoader::clientSuggestionProvider)
+                .frozen(RegistryTypes.OPERATOR, CommandRegistryLoader::operator)
+                .frozen(RegistryTypes.SELECTOR_TYPE, CommandRegistryLoader::selectorType)
+                .frozen(RegistryTypes.SELECTOR_SORT_ALGORITHM, CommandRegistryLoader::selectorSortAlgorithm)
 
-        // other
-        holder.createFrozenRegistry(RegistryTypes.ACCOUNT_DELETION_RESULT_TYPE, SpongeRegistryLoader.accountDeletionResultType());
-        holder.createFrozenRegistry(RegistryTypes.BAN_TYPE, SpongeRegistryLoader.banType());
-        holder.createFrozenRegistry(RegistryTypes.BODY_PART, SpongeRegistryLoader.bodyPart());
-        holder.createFrozenRegistry(RegistryTypes.CLICK_TYPE, SpongeRegistryLoader.clickType());
-        holder.createFrozenRegistry(RegistryTypes.CHUNK_REGENERATE_FLAG, SpongeRegistryLoader.chunkRegenerateFlag());
-        holder.createFrozenRegistry(RegistryTypes.DAMAGE_MODIFIER_TYPE, SpongeRegistryLoader.damageModifierType());
-        holder.createFrozenRegistry(RegistryTypes.DISMOUNT_TYPE, SpongeRegistryLoader.dismountType());
-        holder.createFrozenRegistry(RegistryTypes.GOAL_EXECUTOR_TYPE, SpongeRegistryLoader.goalExecutorType());
-        holder.createFrozenRegistry(RegistryTypes.GOAL_TYPE, SpongeRegistryLoader.goalType());
-        holder.createFrozenRegistry(RegistryTypes.MATTER_TYPE, SpongeRegistryLoader.matterType());
-        holder.createFrozenRegistry(RegistryTypes.MOVEMENT_TYPE, SpongeRegistryLoader.movementType());
-        holder.createFrozenRegistry(RegistryTypes.MUSIC_DISC, SpongeRegistryLoader.musicDisc());
-        holder.createFrozenRegistry(RegistryTypes.NOTE_PITCH, SpongeRegistryLoader.notePitch());
-        holder.createFrozenRegistry(RegistryTypes.OPERATION, SpongeRegistryLoader.operation());
-        holder.createFrozenRegistry(RegistryTypes.ORIENTATION, SpongeRegistryLoader.orientation());
-        holder.createFrozenRegistry(RegistryTypes.PALETTE_TYPE, SpongeRegistryLoader.paletteType());
-        holder.createFrozenRegistry(RegistryTypes.PARTICLE_OPTION, SpongeRegistryLoader.particleOption());
-        holder.createFrozenRegistry(RegistryTypes.PORTAL_TYPE, SpongeRegistryLoader.portalType());
-        holder.createFrozenRegistry(RegistryTypes.QUERY_TYPE, SpongeRegistryLoader.queryType());
-        holder.createFrozenRegistry(RegistryTypes.RESOLVE_OPERATION, SpongeRegistryLoader.resolveOperation());
-        holder.createFrozenRegistry(RegistryTypes.SKIN_PART, SpongeRegistryLoader.skinPart());
-        holder.createFrozenRegistry(RegistryTypes.SPAWN_TYPE, SpongeRegistryLoader.spawnType());
-        holder.createFrozenRegistry(RegistryTypes.TRANSACTION_TYPE, SpongeRegistryLoader.transactionType());
-        holder.createFrozenRegistry(RegistryTypes.WEATHER_TYPE, SpongeRegistryLoader.weather());
-        holder.createFrozenRegistry(RegistryTypes.DATA_FORMAT, SpongeRegistryLoader.dataFormat());
-        holder.createFrozenRegistry(RegistryTypes.MAP_COLOR_TYPE, SpongeRegistryLoader.mapColorType());
-        holder.createFrozenRegistry(RegistryTypes.MAP_DECORATION_ORIENTATION, SpongeRegistryLoader.mapDecorationOrientation());
-        holder.createFrozenRegistry(RegistryTypes.MAP_SHADE, SpongeRegistryLoader.mapShade());
-        holder.createFrozenRegistry(RegistryTypes.NOISE_CONFIG, SpongeRegistryLoader.noiseConfig());
+                // other
+                .frozen(RegistryTypes.ACCOUNT_DELETION_RESULT_TYPE, SpongeRegistryLoader::accountDeletionResultType)
+                .frozen(RegistryTypes.BAN_TYPE, SpongeRegistryLoader::banType)
+                .frozen(RegistryTypes.BODY_PART, SpongeRegistryLoader::bodyPart)
+                .frozen(RegistryTypes.CLICK_TYPE, SpongeRegistryLoader::clickType)
+                .frozen(RegistryTypes.CHUNK_REGENERATE_FLAG, SpongeRegistryLoader::chunkRegenerateFlag)
+                .frozen(RegistryTypes.DAMAGE_MODIFIER_TYPE, SpongeRegistryLoader::damageModifierType)
+                .frozen(RegistryTypes.DISMOUNT_TYPE, SpongeRegistryLoader::dismountType)
+                .frozen(RegistryTypes.GOAL_EXECUTOR_TYPE, SpongeRegistryLoader::goalExecutorType)
+                .frozen(RegistryTypes.GOAL_TYPE, SpongeRegistryLoader::goalType)
+                .frozen(RegistryTypes.MATTER_TYPE, SpongeRegistryLoader::matterType)
+                .frozen(RegistryTypes.MOVEMENT_TYPE, SpongeRegistryLoader::movementType)
+                .frozen(RegistryTypes.MUSIC_DISC, SpongeRegistryLoader::musicDisc)
+                .frozen(RegistryTypes.NOTE_PITCH, SpongeRegistryLoader::notePitch)
+                .frozen(RegistryTypes.OPERATION, SpongeRegistryLoader::operation)
+                .frozen(RegistryTypes.ORIENTATION, SpongeRegistryLoader::orientation)
+                .frozen(RegistryTypes.PALETTE_TYPE, SpongeRegistryLoader::paletteType)
+                .frozen(RegistryTypes.PARTICLE_OPTION, SpongeRegistryLoader::particleOption)
+                .frozen(RegistryTypes.PORTAL_TYPE, SpongeRegistryLoader::portalType)
+                .frozen(RegistryTypes.QUERY_TYPE, SpongeRegistryLoader::queryType)
+                .frozen(RegistryTypes.RESOLVE_OPERATION, SpongeRegistryLoader::resolveOperation)
+                .frozen(RegistryTypes.SKIN_PART, SpongeRegistryLoader::skinPart)
+                .frozen(RegistryTypes.SPAWN_TYPE, SpongeRegistryLoader::spawnType)
+                .frozen(RegistryTypes.TRANSACTION_TYPE, SpongeRegistryLoader::transactionType)
+                .frozen(RegistryTypes.WEATHER_TYPE, SpongeRegistryLoader::weather)
+                .frozen(RegistryTypes.DATA_FORMAT, SpongeRegistryLoader::dataFormat)
+                .frozen(RegistryTypes.MAP_COLOR_TYPE, SpongeRegistryLoader::mapColorType)
+                .frozen(RegistryTypes.MAP_DECORATION_ORIENTATION, SpongeRegistryLoader::mapDecorationOrientation)
+                .frozen(RegistryTypes.MAP_SHADE, SpongeRegistryLoader::mapShade)
+                .frozen(RegistryTypes.NOISE_CONFIG, SpongeRegistryLoader::noiseConfig);
 
-        SpongeRegistries.registerEarlyDynamicRegistries(holder);
+        SpongeRegistries.registerEarlyDynamicRegistries(bootstrap);
+        bootstrap.run();
     }
 
-    private static void registerEarlyDynamicRegistries(final SpongeRegistryHolder holder) {
-        holder.createRegistry(RegistryTypes.CURRENCY, (RegistryLoader<Currency>) null, true);
-        holder.createRegistry(RegistryTypes.COMMAND_REGISTRAR_TYPE, CommandRegistryLoader.commandRegistrarType(), true);
-        holder.createRegistry(RegistryTypes.PLACEHOLDER_PARSER, DynamicSpongeRegistryLoader.placeholderParser(), true);
-        holder.createRegistry(RegistryTypes.TELEPORT_HELPER_FILTER, DynamicSpongeRegistryLoader.teleportHelperFilter(), true);
+    private static void registerEarlyDynamicRegistries(final RegistryBootstrap bootstrap) {
+        bootstrap
+                .dynamic(RegistryTypes.CURRENCY, () -> (RegistryLoader<Currency>) null)
+                .dynamic(RegistryTypes.COMMAND_REGISTRAR_TYPE, CommandRegistryLoader::commandRegistrarType)
+                .dynamic(RegistryTypes.PLACEHOLDER_PARSER, DynamicSpongeRegistryLoader::placeholderParser)
+                .dynamic(RegistryTypes.TELEPORT_HELPER_FILTER, DynamicSpongeRegistryLoader::teleportHelperFilter);
     }
 
 
@@ -103,10 +106,12 @@ public static void registerGlobalRegistriesDimensionLayer(final SpongeRegistryHo
         }
         final RegistryAccess.ImmutableRegistryAccess builtInRegistryAccess = new RegistryAccess.ImmutableRegistryAccess(BuiltInRegistries.REGISTRY.stream().toList());
         final CommandBuildContext cbCtx = CommandBuildContext.simple(builtInRegistryAccess, featureFlags);
-        holder.createOrReplaceFrozenRegistry(RegistryTypes.COMMAND_TREE_NODE_TYPE, CommandRegistryLoader.clientCompletionKey(cbCtx));
-        holder.createOrReplaceFrozenRegistry(RegistryTypes.REGISTRY_KEYED_VALUE_PARAMETER, CommandRegistryLoader.valueParameter(cbCtx));
+        new RegistryBootstrap("dimension layer", holder)
+                .replacingFrozen(RegistryTypes.COMMAND_TREE_NODE_TYPE, () -> CommandRegistryLoader.clientCompletionKey(cbCtx))
+                .replacingFrozen(RegistryTypes.REGISTRY_KEYED_VALUE_PARAMETER, () -> CommandRegistryLoader.valueParameter(cbCtx))
 
-        holder.createOrReplaceFrozenRegistry(RegistryTypes.FLAT_GENERATOR_CONFIG, SpongeRegistryLoader.flatGeneratorConfig(registryAccess));
+                .replacingFrozen(RegistryTypes.FLAT_GENERATOR_CONFIG, () -> SpongeRegistryLoader.flatGeneratorConfig(registryAccess))
+                .run();
     }
 
     public static void registerServerRegistries(final RegistryHolder holder) {
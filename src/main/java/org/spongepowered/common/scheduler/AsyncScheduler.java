@@ -28,6 +28,7 @@
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
 
 import java.util.Set;
@@ -37,136 +38,71 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 
 public final class AsyncScheduler extends SpongeScheduler {
 
-    // Locking mechanism
-    private final Lock lock = new ReentrantLock();
-    private final Condition condition = this.lock.newCondition();
-    private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executor of asynchronous tasks, either a dynamic pool of
+    // platform threads or a virtual thread per task.
+    private final ExecutorService executor;
+    private final Thread thread;
     private volatile boolean running = true;
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
-
     public AsyncScheduler() {
         super("A");
 
-        final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
-        thread.setName("Sponge Async Scheduler Thread");
-        thread.setDaemon(true);
-        thread.start();
+        if (SpongeConfigs.getCommon().get().scheduler.asyncVirtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                    .name("Sponge-AsyncScheduler-", 0)
+                    .factory());
+        } else {
+            this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge-AsyncScheduler-%d")
+                    .build());
+        }
+
+        this.thread = new Thread(AsyncScheduler.this::mainLoop);
+        this.thread.setName("Sponge Async Scheduler Thread");
+        this.thread.setDaemon(true);
+        this.thread.start();
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
-            this.recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
-    }
-
     @Override
     protected void addTask(final SpongeScheduledTask task) {
-        this.lock.lock();
-        try {
-            super.addTask(task);
-            this.condition.signalAll();
-        } finally {
-            this.lock.unlock();
-        }
-    }
-
-    @Override
-    protected void preTick() {
-        this.lock.lock();
-        try {
-            // If we have something that has indicated it needs to change,
-            // don't await, just continue.
-            if (!this.stateChanged.get()) {
-                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
-            }
-            // We're processing now. Set to false.
-            this.stateChanged.set(false);
-        } catch (final InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (final IllegalMonitorStateException e) {
-            SpongeCommon.logger().error("The scheduler internal state machine suffered a catastrophic error", e);
-        }
+        super.addTask(task);
+        LockSupport.unpark(this.thread);
     }
 
     @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
+    void requeueTask(final SpongeScheduledTask task) {
+        super.requeueTask(task);
+        LockSupport.unpark(this.thread);
     }
 
     @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
-    }
-
-    @Override
-    protected void onTaskCompletion(final SpongeScheduledTask task) {
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            this.lock.lock();
-            try {
-                this.stateChanged.set(true);
-                this.condition.signalAll();
-            } finally {
-                this.lock.unlock();
-            }
+    protected void preTick() {
+        // If something was queued in the meantime, don't wait, just continue.
+        // Producers unpark this thread after queueing, so a task queued after
+        // this check will make the park below return immediately.
+        if (this.hasPendingTasks()) {
+            return;
+        }
+        // Tick based tasks are measured in real time by this scheduler, so
+        // both queues share the same clock.
+        final long deadline = Math.min(this.nextDeadline(true), this.nextDeadline(false));
+        if (deadline == Long.MAX_VALUE) {
+            LockSupport.park(this);
+            return;
+        }
+        final long timeout = deadline - System.nanoTime();
+        if (timeout > 0) {
+            LockSupport.parkNanos(this, timeout);
         }
     }
 
@@ -193,6 +129,7 @@ private <T> CompletableFuture<T> asyncFailableFuture(Callable<T> call, Executor
 
     public void close() {
         this.running = false;
+        LockSupport.unpark(this.thread);
         // Cancel all tasks
         final Set<ScheduledTask> tasks = this.tasks();
         tasks.forEach(ScheduledTask::cancel);
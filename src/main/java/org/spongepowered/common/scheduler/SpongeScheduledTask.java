@@ -40,9 +40,11 @@ public final class SpongeScheduledTask implements ScheduledTask {
     final SpongeTask task;
     private final UUID uniqueId;
     private final String name;
+    private final SpongeTaskMetrics metrics = new SpongeTaskMetrics();
 
     private long timestamp;
-    private ScheduledTaskState state;
+    private long deadline;
+    private volatile ScheduledTaskState state;
     private boolean isCancelled = false;
 
     SpongeScheduledTask(final SpongeScheduler scheduler, final SpongeTask task, final String name) {
@@ -80,6 +82,8 @@ public boolean cancel() {
                 || this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        // Let the scheduler drop the task on its next tick
+        this.scheduler.requeueTask(this);
         return success;
     }
 
@@ -88,6 +92,15 @@ public boolean isCancelled() {
         return this.isCancelled;
     }
 
+    /**
+     * Gets the execution statistics of this task.
+     *
+     * @return The metrics
+     */
+    public SpongeTaskMetrics metrics() {
+        return this.metrics;
+    }
+
     long timestamp() {
         return this.timestamp;
     }
@@ -96,6 +109,20 @@ void setTimestamp(final long timestamp) {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Returns the timestamp at which the scheduler will process this task,
+     * computed when it was last queued.
+     *
+     * @return The deadline of this task
+     */
+    long deadline() {
+        return this.deadline;
+    }
+
+    void setDeadline(final long deadline) {
+        this.deadline = deadline;
+    }
+
     /**
      * Returns a timestamp after which the next execution will take place.
      * Should only be compared to
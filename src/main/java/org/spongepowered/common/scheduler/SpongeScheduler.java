@@ -37,14 +37,19 @@
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +60,7 @@
 public abstract class SpongeScheduler implements Scheduler {
 
     private static final AtomicInteger TASK_CREATED_COUNTER = new AtomicInteger();
+    private static final Comparator<SpongeScheduledTask> DEADLINE_ORDER = Comparator.comparingLong(SpongeScheduledTask::deadline);
 
     private static final int TICK_DURATION_MS = 50;
     static final long TICK_DURATION_NS = TimeUnit.NANOSECONDS.convert(SpongeScheduler.TICK_DURATION_MS, TimeUnit.MILLISECONDS);
@@ -63,6 +69,17 @@ public abstract class SpongeScheduler implements Scheduler {
 
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    // Tasks that were added, rescheduled or cancelled since the last tick, may be
+    // filled from any thread and is drained by the thread running the scheduler
+    private final Queue<SpongeScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Tasks ordered by their next execution timestamp, split by the clock they are
+    // based on. Only ever accessed by the thread running the scheduler.
+    private final PriorityQueue<SpongeScheduledTask> tickBasedQueue = new PriorityQueue<>(SpongeScheduler.DEADLINE_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> timeBasedQueue = new PriorityQueue<>(SpongeScheduler.DEADLINE_ORDER);
+    // Execution statistics of all tasks ever run by this scheduler, per owning plugin
+    private final Map<PluginContainer, SpongeTaskMetrics> pluginMetrics = new ConcurrentHashMap<>();
+    // The amount of cancelled tasks that may still linger in the queues
+    private int staleQueueEntries;
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -93,6 +110,18 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.pendingTasks.add(task);
+    }
+
+    /**
+     * Queues the task to be looked at again on the next call to
+     * {@link #runTick}, either because it has to be rescheduled or because
+     * it was cancelled and has to be removed.
+     *
+     * @param task The task to requeue
+     */
+    void requeueTask(final SpongeScheduledTask task) {
+        this.pendingTasks.add(task);
     }
 
     /**
@@ -104,6 +133,29 @@ private void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
     }
 
+    /**
+     * Gets whether any task has been added, rescheduled or cancelled since
+     * the last call to {@link #runTick}.
+     *
+     * @return True if there are pending tasks
+     */
+    protected boolean hasPendingTasks() {
+        return !this.pendingTasks.isEmpty();
+    }
+
+    /**
+     * Gets the earliest timestamp at which a queued task based on the given
+     * clock will be due. Should only be called from the thread running the
+     * scheduler.
+     *
+     * @param tickBased Whether to look at tick based tasks
+     * @return The next deadline, or {@link Long#MAX_VALUE} if there is none
+     */
+    protected long nextDeadline(final boolean tickBased) {
+        final @Nullable SpongeScheduledTask next = (tickBased ? this.tickBasedQueue : this.timeBasedQueue).peek();
+        return next == null ? Long.MAX_VALUE : next.deadline();
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -148,6 +200,35 @@ public Set<ScheduledTask> tasks(final PluginContainer plugin) {
         return allTasks;
     }
 
+    /**
+     * Gets the execution statistics of the tasks run by this scheduler,
+     * rolled up per owning plugin.
+     *
+     * @return An unmodifiable view of the metrics per plugin
+     */
+    public Map<PluginContainer, SpongeTaskMetrics> pluginMetrics() {
+        return Collections.unmodifiableMap(this.pluginMetrics);
+    }
+
+    /**
+     * Gets the execution statistics of the tasks of the given plugin run
+     * by this scheduler.
+     *
+     * @param plugin The plugin
+     * @return The metrics, if any task of the plugin ran
+     */
+    public Optional<SpongeTaskMetrics> pluginMetrics(final PluginContainer plugin) {
+        return Optional.ofNullable(this.pluginMetrics.get(Objects.requireNonNull(plugin, "plugin")));
+    }
+
+    /**
+     * Resets the execution statistics of all plugins and all current tasks.
+     */
+    public void resetMetrics() {
+        this.pluginMetrics.values().forEach(SpongeTaskMetrics::reset);
+        this.tasks.values().forEach(task -> task.metrics().reset());
+    }
+
     @Override
     public SpongeTaskExecutorService executor(final PluginContainer plugin) {
         Objects.requireNonNull(plugin, "plugin");
@@ -176,18 +257,76 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            this.drainPendingTasks();
+            this.processDueTasks(this.tickBasedQueue, true);
+            this.processDueTasks(this.timeBasedQueue, false);
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    /**
+     * Moves all pending tasks into the queue matching the clock of their next
+     * execution, dropping those that were cancelled in the meantime.
+     */
+    private void drainPendingTasks() {
+        SpongeScheduledTask task;
+        while ((task = this.pendingTasks.poll()) != null) {
+            if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+                // The task may still be queued with its previous deadline,
+                // it will be skipped once it is polled.
+                this.removeTask(task);
+                this.staleQueueEntries++;
+                continue;
+            }
+            final boolean tickBased;
+            final long threshold;
+            if (task.state().isActive) {
+                tickBased = task.task.tickBasedInterval;
+                threshold = task.task.interval;
+            } else {
+                tickBased = task.task.tickBasedDelay;
+                threshold = task.task.delay;
+            }
+            final long deadline = task.timestamp() + threshold;
+            // Guard against overflows caused by very long delays
+            task.setDeadline(deadline < task.timestamp() ? Long.MAX_VALUE : deadline);
+            (tickBased ? this.tickBasedQueue : this.timeBasedQueue).add(task);
+        }
+        // Only compact once the cancelled tasks make up a large part of the
+        // queues, otherwise they are discarded whenever they become due.
+        if (this.staleQueueEntries > 0 && this.staleQueueEntries > (this.tickBasedQueue.size() + this.timeBasedQueue.size()) / 2) {
+            this.tickBasedQueue.removeIf(SpongeScheduledTask::isCancelled);
+            this.timeBasedQueue.removeIf(SpongeScheduledTask::isCancelled);
+            this.staleQueueEntries = 0;
+        }
+    }
+
+    /**
+     * Processes every task in the queue whose deadline has passed.
+     *
+     * @param queue The queue to poll
+     * @param tickBased Whether the queue holds tick based tasks
+     */
+    private void processDueTasks(final PriorityQueue<SpongeScheduledTask> queue, final boolean tickBased) {
+        if (queue.isEmpty()) {
+            return;
+        }
+        // This moment is 'now'
+        final long now = this.timestamp(tickBased);
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && task.deadline() <= now) {
+            queue.poll();
+            this.processTask(task, tickBased);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -208,53 +347,27 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task whose deadline has passed.
      *
      * @param task The task to process
+     * @param tickBased Whether the deadline of the task is tick based
      */
-    private void processTask(final SpongeScheduledTask task) {
+    private void processTask(final SpongeScheduledTask task, final boolean tickBased) {
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        final long intendedStart = task.deadline();
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task, tickBased, intendedStart);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -262,9 +375,13 @@ private void processTask(final SpongeScheduledTask task) {
      * Begin the execution of a task. Exceptions are caught and logged.
      *
      * @param task The task to start
+     * @param tickBased Whether the intended start is tick based
+     * @param intendedStart The timestamp at which the task was due
      */
-    private void startTask(final SpongeScheduledTask task) {
+    private void startTask(final SpongeScheduledTask task, final boolean tickBased, final long intendedStart) {
         this.executeRunnable(() -> {
+            final long lag = Math.max(0L, this.timestamp(tickBased) - intendedStart);
+            final long start = System.nanoTime();
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
@@ -277,14 +394,25 @@ private void startTask(final SpongeScheduledTask task) {
                             task.name(), task.task().plugin().metadata().id(), t);
                 }
             } finally {
+                this.recordExecution(task, lag, System.nanoTime() - start);
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    // Repeating tasks are only queued again once they are
+                    // done, so they can never overlap with themselves.
+                    if (task.task.interval != 0L) {
+                        this.requeueTask(task);
+                    }
                 }
                 this.onTaskCompletion(task);
             }
         });
     }
 
+    private void recordExecution(final SpongeScheduledTask task, final long lag, final long time) {
+        task.metrics().record(lag, time);
+        this.pluginMetrics.computeIfAbsent(task.task.plugin(), k -> new SpongeTaskMetrics()).record(lag, time);
+    }
+
     protected @Nullable PhaseContext<?> createContext(final SpongeScheduledTask task, final PluginContainer plugin) {
         return PluginPhase.State.SCHEDULED_TASK.createPhaseContext(PhaseTracker.getInstance())
                 .source(task)
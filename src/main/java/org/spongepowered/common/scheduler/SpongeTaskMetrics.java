@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of scheduled tasks, either for a single
+ * {@link SpongeScheduledTask} or rolled up for all tasks of a plugin.
+ *
+ * <p>All times are in nanoseconds. The scheduling lag is the difference
+ * between the moment a task was due and the moment it actually started,
+ * measured on the clock the task is based on.</p>
+ */
+public final class SpongeTaskMetrics {
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong maxTime = new AtomicLong();
+    private final LongAdder totalLag = new LongAdder();
+    private final AtomicLong maxLag = new AtomicLong();
+
+    void record(final long lag, final long time) {
+        this.runs.increment();
+        this.totalTime.add(time);
+        this.totalLag.add(lag);
+        SpongeTaskMetrics.updateMax(this.maxTime, time);
+        SpongeTaskMetrics.updateMax(this.maxLag, lag);
+    }
+
+    private static void updateMax(final AtomicLong max, final long value) {
+        // Avoid the CAS entirely in the common case of no new maximum
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    void reset() {
+        this.runs.reset();
+        this.totalTime.reset();
+        this.maxTime.set(0L);
+        this.totalLag.reset();
+        this.maxLag.set(0L);
+    }
+
+    public long runs() {
+        return this.runs.sum();
+    }
+
+    public long totalTime() {
+        return this.totalTime.sum();
+    }
+
+    public long maxTime() {
+        return this.maxTime.get();
+    }
+
+    public long averageTime() {
+        final long runs = this.runs();
+        return runs == 0 ? 0L : this.totalTime() / runs;
+    }
+
+    public long totalLag() {
+        return this.totalLag.sum();
+    }
+
+    public long maxLag() {
+        return this.maxLag.get();
+    }
+
+    public long averageLag() {
+        final long runs = this.runs();
+        return runs == 0 ? 0L : this.totalLag() / runs;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", SpongeTaskMetrics.class.getSimpleName() + "[", "]")
+                .add("runs=" + this.runs())
+                .add("totalTime=" + this.totalTime())
+                .add("maxTime=" + this.maxTime())
+                .add("totalLag=" + this.totalLag())
+                .add("maxLag=" + this.maxLag())
+                .toString();
+    }
+}
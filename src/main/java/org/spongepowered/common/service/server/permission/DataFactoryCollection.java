@@ -32,6 +32,7 @@
 import org.spongepowered.api.util.Tristate;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -107,6 +108,12 @@ public MemorySubjectData subjectData() {
             return this.data;
         }
 
+        @Override
+        protected List<MemorySubjectData> permissionData() {
+            return List.of(this.transientSubjectData(), DataFactoryCollection.this.defaults().transientSubjectData(),
+                    DataFactoryCollection.this.service.defaults().transientSubjectData());
+        }
+
         @Override
         public Tristate permissionValue(final String permission, final Cause cause) {
             Tristate ret = super.permissionValue(permission, cause);
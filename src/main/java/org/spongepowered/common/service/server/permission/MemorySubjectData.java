@@ -63,6 +63,7 @@ public class MemorySubjectData implements SubjectData {
     protected final ConcurrentMap<Set<Context>, Map<String, String>> options = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, NodeTree> permissions = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, List<SubjectReference>> parents = new ConcurrentHashMap<>();
+    final ResolvedPermissionCache resolvedPermissions = new ResolvedPermissionCache(this);
 
     /**
      * Creates a new subject data instance, using the provided service to
@@ -82,6 +83,11 @@ protected void onUpdate() {
         // Do nothing - users of the class will override.
     }
 
+    private void dataChanged() {
+        this.resolvedPermissions.invalidate();
+        this.onUpdate();
+    }
+
     @Override
     public Subject subject() {
         return this.subject;
@@ -142,7 +148,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, final Str
                 }
             }
         }
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -176,7 +182,7 @@ public CompletableFuture<Boolean> setPermissions(Set<Context> contexts, final Ma
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -217,7 +223,7 @@ public CompletableFuture<Boolean> setFallbackPermissionValue(Set<Context> contex
                 }
             }
         }
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -237,7 +243,7 @@ public CompletableFuture<Boolean> clearFallbackPermissionValues() {
                 }
             }
         }
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(anyUpdated);
     }
 
@@ -246,7 +252,7 @@ public CompletableFuture<Boolean> clearPermissions() {
         final boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.dataChanged();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -255,7 +261,7 @@ public CompletableFuture<Boolean> clearPermissions() {
     public CompletableFuture<Boolean> clearPermissions(final Set<Context> context) {
         final boolean changed = this.permissions.remove(Objects.requireNonNull(context, "context")) != null;
         if (changed) {
-            this.onUpdate();
+            this.dataChanged();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -302,7 +308,7 @@ public CompletableFuture<Boolean> setParents(Set<Context> contexts, final List<?
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -323,7 +329,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, final Subject
                     .build();
 
             if (this.updateCollection(this.parents, contexts, oldParents, newParents)) {
-                this.onUpdate();
+                this.dataChanged();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -354,7 +360,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, final Subj
             newParents.remove(parent);
 
             if (this.updateCollection(this.parents, contexts, oldParents, ImmutableList.copyOf(newParents))) {
-                this.onUpdate();
+                this.dataChanged();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -365,7 +371,7 @@ public CompletableFuture<Boolean> clearParents() {
         final boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.dataChanged();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -374,7 +380,7 @@ public CompletableFuture<Boolean> clearParents() {
     public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
         final boolean changed = this.parents.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (changed) {
-            this.onUpdate();
+            this.dataChanged();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -402,7 +408,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
 
             if ((origMap = this.options.putIfAbsent(contexts, Collections.singletonMap(key.toLowerCase(), value))) == null) {
-                this.onUpdate();
+                this.dataChanged();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -419,7 +425,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
             newMap = ImmutableMap.copyOf(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -449,7 +455,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.dataChanged();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -458,7 +464,7 @@ public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
         this.options.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.dataChanged();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -467,7 +473,7 @@ public CompletableFuture<Boolean> clearOptions() {
     public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         final boolean ret = this.options.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (ret) {
-            this.onUpdate();
+            this.dataChanged();
         }
         return CompletableFuture.completedFuture(ret);
     }
@@ -484,6 +490,7 @@ public CompletableFuture<Boolean> copyFrom(final SubjectData other, final Transf
             this.permissions.clear();
             this.parents.clear();
             this.options.clear();
+            this.resolvedPermissions.invalidate();
         }
 
         otherPerms.forEach((ctx, permissions) -> this.setPermissions(ctx, permissions, method));
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interns the split, lower-cased form of permission nodes so repeated checks
+ * against the same node do not re-tokenize the string.
+ *
+ * <p>Every segment handed out is itself interned, which lets the node tree's
+ * child lookups hit the identity fast path of {@link String#equals}.</p>
+ */
+final class PermissionNodes {
+
+    private static final int MAX_INTERNED = 1 << 16;
+    private static final ConcurrentMap<String, String[]> NODES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, String> SEGMENTS = new ConcurrentHashMap<>();
+
+    private PermissionNodes() {
+    }
+
+    /**
+     * Gets the segments of the given permission node, split on {@code '.'}
+     * and lower-cased. Empty segments are preserved.
+     *
+     * <p>The returned array is shared and must not be modified.</p>
+     *
+     * @param node The permission node
+     * @return The node segments
+     */
+    static String[] segments(final String node) {
+        final String[] existing = PermissionNodes.NODES.get(node);
+        if (existing != null) {
+            return existing;
+        }
+        final String[] parts = PermissionNodes.split(node);
+        if (PermissionNodes.NODES.size() >= PermissionNodes.MAX_INTERNED) {
+            return parts;
+        }
+        final String[] raced = PermissionNodes.NODES.putIfAbsent(node, parts);
+        return raced == null ? parts : raced;
+    }
+
+    private static String[] split(final String node) {
+        final String lower = node.toLowerCase(Locale.ROOT);
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) == '.') {
+                parts.add(PermissionNodes.segment(lower.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        parts.add(PermissionNodes.segment(lower.substring(start)));
+        return parts.toArray(new String[0]);
+    }
+
+    private static String segment(final String segment) {
+        if (PermissionNodes.SEGMENTS.size() >= PermissionNodes.MAX_INTERNED) {
+            return segment;
+        }
+        final String existing = PermissionNodes.SEGMENTS.putIfAbsent(segment, segment);
+        return existing == null ? segment : existing;
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.service.permission.SubjectReference;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoizes fully resolved permission values, including those inherited from
+ * parents, for a single {@link MemorySubjectData}.
+ *
+ * <p>Values are keyed on a {@link Stamp} of everything they were resolved
+ * from: the generation of the data itself, which each of its mutations
+ * advances, its parent list and, recursively, the stamps of the data each
+ * parent consults. A change to one subject therefore only invalidates the
+ * values of that subject and of its descendants. Reads never lock, and a
+ * hit resolves no {@link SubjectReference}.</p>
+ */
+final class ResolvedPermissionCache {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    private final MemorySubjectData data;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile @Nullable Snapshot snapshot;
+
+    ResolvedPermissionCache(final MemorySubjectData data) {
+        this.data = data;
+    }
+
+    /**
+     * Discards the values resolved for this data and for any data
+     * inheriting from it.
+     */
+    void invalidate() {
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * Captures the current state values of this data are resolved from, to
+     * be taken before resolving a value that will later be {@link #put stored}.
+     *
+     * @return The stamp, or {@code null} if the values depend on a parent
+     *     whose state can not be stamped
+     */
+    @Nullable Stamp stamp() {
+        final @Nullable Snapshot snapshot = this.snapshot;
+        return this.stamp(snapshot == null ? null : snapshot.stamp);
+    }
+
+    private @Nullable Stamp stamp(final @Nullable Stamp previous) {
+        final long generation = this.generation.get();
+        final List<? extends SubjectReference> parents = this.data.parents(SubjectData.GLOBAL_CONTEXT);
+        // References resolve to the same subject for their whole lifetime
+        final boolean reuse = previous != null && ResolvedPermissionCache.sameParents(previous.parents, parents);
+        final List<SpongeBaseSubject> resolvedParents = new ArrayList<>(parents.size());
+        final List<Stamp> parentStamps = new ArrayList<>(parents.size());
+        for (int i = 0; i < parents.size(); i++) {
+            final SpongeBaseSubject parent;
+            if (reuse) {
+                parent = previous.resolvedParents.get(i);
+            } else {
+                final Subject resolved = parents.get(i).resolve().join();
+                if (!(resolved instanceof SpongeBaseSubject)) {
+                    return null;
+                }
+                parent = (SpongeBaseSubject) resolved;
+            }
+            final @Nullable List<MemorySubjectData> consulted = parent.permissionData();
+            if (consulted == null) {
+                return null;
+            }
+            for (final MemorySubjectData parentData : consulted) {
+                final @Nullable Stamp parentStamp = parentData.resolvedPermissions.stamp();
+                if (parentStamp == null) {
+                    return null;
+                }
+                parentStamps.add(parentStamp);
+            }
+            resolvedParents.add(parent);
+        }
+        return new Stamp(generation, List.copyOf(parents), resolvedParents, parentStamps);
+    }
+
+    @Nullable Tristate get(final Stamp stamp, final String permission) {
+        final @Nullable Snapshot snapshot = this.snapshot;
+        if (snapshot == null || !snapshot.stamp.matches(stamp)) {
+            return null;
+        }
+        return snapshot.values.get(permission);
+    }
+
+    void put(final Stamp stamp, final String permission, final Tristate value) {
+        @Nullable Snapshot snapshot = this.snapshot;
+        if (snapshot == null || !snapshot.stamp.matches(stamp)) {
+            final @Nullable Stamp current = this.stamp(stamp);
+            if (current == null || !current.matches(stamp)) {
+                // Resolved against data that has since changed
+                return;
+            }
+            snapshot = new Snapshot(stamp);
+            this.snapshot = snapshot;
+        }
+        if (snapshot.values.size() < ResolvedPermissionCache.MAX_ENTRIES) {
+            snapshot.values.put(permission, value);
+        }
+    }
+
+    private static boolean sameParents(final List<? extends SubjectReference> cached, final List<? extends SubjectReference> current) {
+        if (cached == current) {
+            return true;
+        }
+        final int size = cached.size();
+        if (size != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            final SubjectReference a = cached.get(i);
+            final SubjectReference b = current.get(i);
+            if (a != b && (!Objects.equals(a.collectionIdentifier(), b.collectionIdentifier())
+                    || !Objects.equals(a.subjectIdentifier(), b.subjectIdentifier()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The state a set of resolved values was computed from.
+     */
+    static final class Stamp {
+
+        final long generation;
+        final List<? extends SubjectReference> parents;
+        final List<SpongeBaseSubject> resolvedParents;
+        final List<Stamp> parentStamps;
+
+        Stamp(final long generation, final List<? extends SubjectReference> parents, final List<SpongeBaseSubject> resolvedParents,
+                final List<Stamp> parentStamps) {
+            this.generation = generation;
+            this.parents = parents;
+            this.resolvedParents = resolvedParents;
+            this.parentStamps = parentStamps;
+        }
+
+        boolean matches(final Stamp other) {
+            if (this == other) {
+                return true;
+            }
+            if (this.generation != other.generation || this.parentStamps.size() != other.parentStamps.size()
+                    || !ResolvedPermissionCache.sameParents(this.parents, other.parents)) {
+                return false;
+            }
+            for (int i = 0; i < this.parentStamps.size(); i++) {
+                if (!this.parentStamps.get(i).matches(other.parentStamps.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Snapshot {
+
+        final Stamp stamp;
+        final ConcurrentMap<String, Tristate> values = new ConcurrentHashMap<>();
+
+        Snapshot(final Stamp stamp) {
+            this.stamp = stamp;
+        }
+    }
+
+}
@@ -80,18 +80,50 @@ public final Tristate permissionValue(final String permission, final Set<Context
         return this.permissionValue(permission, (Cause) null);
     }
 
+    /**
+     * Gets the data {@link #permissionValue(String, Cause)} consults, so that
+     * children caching values inherited from this subject can tell when they
+     * change.
+     *
+     * @return The consulted data, or {@code null} if permission values also
+     *     depend on state held outside of subject data
+     */
+    protected @Nullable List<MemorySubjectData> permissionData() {
+        return List.of(this.transientSubjectData());
+    }
+
     protected Tristate dataPermissionValue(final MemorySubjectData subject, final String permission) {
+        final ResolvedPermissionCache.@Nullable Stamp stamp = subject.resolvedPermissions.stamp();
+        if (stamp != null) {
+            final @Nullable Tristate cached = subject.resolvedPermissions.get(stamp, permission);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         Tristate res = subject.nodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
         if (res == Tristate.UNDEFINED) {
-            for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().permissionValue(permission, (Cause) null);
-                if (res != Tristate.UNDEFINED) {
-                    return res;
+            if (stamp != null) {
+                for (final SpongeBaseSubject parent : stamp.resolvedParents) {
+                    res = parent.permissionValue(permission, (Cause) null);
+                    if (res != Tristate.UNDEFINED) {
+                        break;
+                    }
+                }
+            } else {
+                for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
+                    res = parent.resolve().join().permissionValue(permission, (Cause) null);
+                    if (res != Tristate.UNDEFINED) {
+                        break;
+                    }
                 }
             }
         }
 
+        if (stamp != null) {
+            subject.resolvedPermissions.put(stamp, permission, res);
+        }
         return res;
     }
 
@@ -32,11 +32,9 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 public final class SpongeNodeTree implements NodeTree {
 
-    private static final Pattern NODE_SPLIT = Pattern.compile("\\.");
     private final Node rootNode;
 
     SpongeNodeTree(final Tristate value) {
@@ -50,16 +48,10 @@ public final class SpongeNodeTree implements NodeTree {
 
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = PermissionNodes.segments(value.getKey());
             Node currentNode = this.rootNode;
             for (final String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    final Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
-                }
+                currentNode = currentNode.children.computeIfAbsent(part, k -> new Node(new HashMap<>()));
             }
             currentNode.value = converter.apply(value.getValue());
         }
@@ -67,14 +59,14 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = PermissionNodes.segments(node);
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (final String str : parts) {
+            currentNode = currentNode.children.get(str);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
@@ -116,7 +108,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = PermissionNodes.segments(node);
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
@@ -26,6 +26,7 @@
 
 import com.mojang.authlib.GameProfile;
 import net.minecraft.server.players.ServerOpListEntry;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -35,6 +36,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.util.Preconditions;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -71,6 +73,7 @@ public void setParent(final SubjectReference parent) {
                 } else {
                     SpongePermissionService.getOps().remove(player);
                 }
+                this.resolvedPermissions.invalidate();
             }
         };
         this.collection = users;
@@ -123,6 +126,12 @@ public PermissionService service() {
         return this.collection.getService();
     }
 
+    @Override
+    protected @Nullable List<MemorySubjectData> permissionData() {
+        // Also depends on the op level
+        return null;
+    }
+
     @Override
     public Tristate permissionValue(final String permission, final Cause cause) {
         Tristate ret = super.permissionValue(permission, cause);
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * An index of the users that have a data file, along with their last known
+ * names, so lookups by unique id or name prefix never have to touch the
+ * player data directory.
+ *
+ * <p>The known users mirror the player data directory and are maintained by
+ * the {@link SpongeUserManager} file watcher. The last known names are
+ * persisted next to the player data files.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class SpongeUserIndex {
+
+    static final String FILE_NAME = "sponge_user_index.nbt";
+
+    private static final String USERS_TAG = "Users";
+    private static final String UNIQUE_ID_TAG = "UUID";
+    private static final String NAME_TAG = "Name";
+
+    private final Set<UUID> known = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+    /**
+     * The unique ids by lower case name, sorted so that all the names
+     * starting with a prefix form a single range.
+     */
+    private final NavigableMap<String, Set<UUID>> uniqueIdsByName = new ConcurrentSkipListMap<>();
+    private volatile boolean dirty;
+
+    boolean contains(final UUID uniqueId) {
+        return this.known.contains(uniqueId);
+    }
+
+    void add(final UUID uniqueId) {
+        this.known.add(uniqueId);
+    }
+
+    void remove(final UUID uniqueId) {
+        this.known.remove(uniqueId);
+    }
+
+    void clearKnown() {
+        this.known.clear();
+    }
+
+    boolean hasName(final UUID uniqueId) {
+        return this.names.containsKey(uniqueId);
+    }
+
+    @Nullable String name(final UUID uniqueId) {
+        return this.names.get(uniqueId);
+    }
+
+    synchronized void updateName(final UUID uniqueId, final @Nullable String name) {
+        if (name == null || name.isEmpty()) {
+            return;
+        }
+        final @Nullable String previous = this.names.put(uniqueId, name);
+        if (name.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            this.uniqueIdsByName.computeIfPresent(previous.toLowerCase(Locale.ROOT), (key, uniqueIds) -> {
+                uniqueIds.remove(uniqueId);
+                return uniqueIds.isEmpty() ? null : uniqueIds;
+            });
+        }
+        this.uniqueIdsByName.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> ConcurrentHashMap.newKeySet()).add(uniqueId);
+        this.dirty = true;
+    }
+
+    Stream<UUID> all() {
+        return this.known.stream();
+    }
+
+    int size() {
+        return this.known.size();
+    }
+
+    /**
+     * Gets the known users whose last known name starts with the given
+     * lower case prefix.
+     *
+     * @param prefix The lower case prefix
+     * @return The matching users
+     */
+    Stream<UUID> matches(final String prefix) {
+        final NavigableMap<String, Set<UUID>> range = prefix.isEmpty() ? this.uniqueIdsByName
+                : this.uniqueIdsByName.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        return range.values().stream()
+                .flatMap(Set::stream)
+                .filter(this.known::contains);
+    }
+
+    void load(final Path directory) throws IOException {
+        final Path file = directory.resolve(SpongeUserIndex.FILE_NAME);
+        if (!Files.exists(file)) {
+            return;
+        }
+        final CompoundTag compound;
+        try (final InputStream in = Files.newInputStream(file)) {
+            compound = NbtIo.readCompressed(in, NbtAccounter.unlimitedHeap());
+        }
+        final ListTag users = compound.getList(SpongeUserIndex.USERS_TAG, Tag.TAG_COMPOUND);
+        for (int i = 0; i < users.size(); i++) {
+            final CompoundTag user = users.getCompound(i);
+            this.updateName(user.getUUID(SpongeUserIndex.UNIQUE_ID_TAG), user.getString(SpongeUserIndex.NAME_TAG));
+        }
+        this.dirty = false;
+    }
+
+    /**
+     * Creates the compound to save if the names changed since the last time
+     * they were loaded or saved.
+     *
+     * @return The compound to save, if changed
+     */
+    @Nullable CompoundTag saveIfDirty() {
+        if (!this.dirty) {
+            return null;
+        }
+        this.dirty = false;
+        final ListTag users = new ListTag();
+        for (final Map.Entry<UUID, String> entry : this.names.entrySet()) {
+            final CompoundTag user = new CompoundTag();
+            user.putUUID(SpongeUserIndex.UNIQUE_ID_TAG, entry.getKey());
+            user.putString(SpongeUserIndex.NAME_TAG, entry.getValue());
+            users.add(user);
+        }
+        final CompoundTag compound = new CompoundTag();
+        compound.put(SpongeUserIndex.USERS_TAG, users);
+        return compound;
+    }
+}
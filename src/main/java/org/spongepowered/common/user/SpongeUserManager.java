@@ -27,6 +27,7 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.PlayerDataStorage;
@@ -56,7 +57,6 @@
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -76,9 +76,9 @@ public final class SpongeUserManager implements UserManager {
 
     public static final UUID FAKEPLAYER_UUID = UUID.fromString("41C82C87-7AFB-4024-BA57-13D2C99CAE77");
 
-    // This is the important set - this tells us if a User file actually exists,
+    // This is the important index - this tells us if a User file actually exists,
     // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    private final SpongeUserIndex index = new SpongeUserIndex();
     private final Cache<UUID, SpongeUserData> userCache = Caffeine.newBuilder()
             .expireAfterAccess(1, TimeUnit.HOURS)
             .build();
@@ -90,9 +90,13 @@ public final class SpongeUserManager implements UserManager {
             .setDaemon(true)
             .setNameFormat("Sponge-User-Data-Loader")
             .build());
+    private final UserDataWriter writer = new UserDataWriter();
 
+    // The watcher is polled from whichever thread queries the index, its state
+    // is guarded by this manager.
     private @Nullable WatchService filesystemWatchService = null;
     private @Nullable WatchKey watchKey = null;
+    private @Nullable CompletableFuture<Void> indexSave = null;
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
@@ -129,7 +133,7 @@ public CompletableFuture<User> loadOrCreate(final UUID uuid) {
             return CompletableFuture.completedFuture(SpongeUserView.create(uuidToUse));
         }
         return CompletableFuture.supplyAsync(() -> {
-            if (always || this.knownUUIDs.contains(uuidToUse)) {
+            if (always || this.index.contains(uuidToUse)) {
                 final com.mojang.authlib.@Nullable GameProfile profile = this.server.getProfileCache().get(uuidToUse)
                     .orElseGet(() -> new com.mojang.authlib.GameProfile(uuidToUse, null));
                 try {
@@ -172,8 +176,14 @@ public CompletableFuture<Optional<User>> load(final GameProfile profile) {
 
     @Override
     public Stream<GameProfile> streamAll() {
+        this.pollFilesystemWatcher();
         final GameProfileCache cache = ((Server) this.server).gameProfileManager().cache();
-        return this.knownUUIDs.stream().map(x -> cache.findById(x).orElseGet(() -> GameProfile.of(x)));
+        return this.index.all().map(uniqueId -> this.indexedProfile(cache, uniqueId));
+    }
+
+    private GameProfile indexedProfile(final GameProfileCache cache, final UUID uniqueId) {
+        // Prefer the cached profile, which keeps properties such as skin textures
+        return cache.findById(uniqueId).orElseGet(() -> GameProfile.of(uniqueId, this.index.name(uniqueId)));
     }
 
     @Override
@@ -182,11 +192,18 @@ public CompletableFuture<Boolean> delete(final UUID uuid) {
             // cannot delete live player.
             return CompletableFuture.completedFuture(false);
         }
+        final @Nullable SpongeUserData cached = this.userCache.getIfPresent(uuid);
+        if (cached != null) {
+            this.dirtyUsers.remove(cached);
+        }
         return CompletableFuture.supplyAsync(() -> {
+            // Don't let a queued write recreate the file
+            this.writer.await(uuid);
             final @Nullable Path dataFile = this.getPlayerDataFile(uuid);
             if (dataFile != null) {
                 try {
                     if (Files.deleteIfExists(dataFile)) {
+                        this.index.remove(uuid);
                         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
                         if (data != null) {
                             this.dirtyUsers.remove(data);
@@ -217,15 +234,7 @@ public boolean removeFromCache(final UUID uuid) {
     public CompletableFuture<Boolean> forceSave(final UUID uuid) {
         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
         if (data != null && this.dirtyUsers.contains(data)) {
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    data.save();
-                } catch (final IOException e) {
-                    throw new CompletionException(e);
-                }
-                return true;
-            });
-
+            return this.save(data);
         }
         return CompletableFuture.completedFuture(false);
     }
@@ -234,8 +243,8 @@ public CompletableFuture<Boolean> forceSave(final UUID uuid) {
     public boolean exists(final UUID playerUuid) {
         if (this.userCache.getIfPresent(playerUuid) == null) {
             // Does the file exist?
-            final @Nullable Path path = this.getPlayerDataFile(playerUuid);
-            return path != null && Files.exists(path);
+            this.pollFilesystemWatcher();
+            return this.index.contains(playerUuid);
         }
         return true;
     }
@@ -243,9 +252,9 @@ public boolean exists(final UUID playerUuid) {
     @Override
     public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
         final String nameToCheck = Objects.requireNonNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
-        return ((Server) this.server).gameProfileManager().cache()
-                .streamOfMatches(nameToCheck)
-                .filter(gameProfile -> this.exists(gameProfile.uuid()));
+        this.pollFilesystemWatcher();
+        final GameProfileCache cache = ((Server) this.server).gameProfileManager().cache();
+        return this.index.matches(nameToCheck).map(uniqueId -> this.indexedProfile(cache, uniqueId));
     }
 
     private UUID ensureNonEmptyUUID(final UUID uuid) {
@@ -259,12 +268,20 @@ private UUID ensureNonEmptyUUID(final UUID uuid) {
     //
 
     public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) throws IOException {
+        // Vanilla creates the data file if it doesn't exist yet
+        this.index.add(mcProfile.getId());
+        this.index.updateName(mcProfile.getId(), mcProfile.getName());
         final @Nullable SpongeUserData currentUser = this.userCache.getIfPresent(mcProfile.getId());
         if (currentUser != null) {
             // If currentUser have this then we know that the user has changed.
             if (this.dirtyUsers.contains(currentUser)) {
                 currentUser.save();
             }
+        }
+        // The player data is about to be read, so it must not be replaced
+        // by a write that is still queued.
+        this.writer.await(mcProfile.getId());
+        if (currentUser != null) {
             // The views will now point at the player.
             this.userCache.invalidate(currentUser.uniqueId());
         }
@@ -274,7 +291,8 @@ private void createUser(final com.mojang.authlib.GameProfile profile) throws IOE
         this.pollFilesystemWatcher();
         final @Nullable SpongeUserData user = SpongeUserData.create(profile);
         this.userCache.put(profile.getId(), user);
-        this.knownUUIDs.add(profile.getId());
+        this.index.add(profile.getId());
+        this.index.updateName(profile.getId(), profile.getName());
     }
 
     public void markDirty(final SpongeUserData user) {
@@ -288,7 +306,7 @@ public void markDirty(final SpongeUserData user) {
 
     // -- Directory Watching
 
-    void setupWatchers() {
+    synchronized void setupWatchers() {
         this.teardownWatchers();
         // Setup the watch service
         try {
@@ -312,7 +330,7 @@ void setupWatchers() {
         }
     }
 
-    void teardownWatchers() {
+    synchronized void teardownWatchers() {
         if (this.watchKey != null) {
             this.watchKey.cancel();
             this.watchKey = null;
@@ -329,16 +347,21 @@ void teardownWatchers() {
         }
     }
 
-    void refreshFilesystemProfiles() {
+    synchronized void refreshFilesystemProfiles() {
         if (this.watchKey != null && this.watchKey.isValid()) {
             this.watchKey.reset();
         }
-        this.knownUUIDs.clear();
+        this.index.clearKnown();
         this.userCache.invalidateAll();
 
         // Add all known profiles from the data files
         final Path playerDataDir = ((MinecraftServerAccessor) this.server).accessor$storageSource().getLevelPath(LevelResource.PLAYER_DATA_DIR);
         if (Files.isDirectory(playerDataDir)) {
+            try {
+                this.index.load(playerDataDir);
+            } catch (final IOException e) {
+                SpongeCommon.logger().warn("Failed to load the user index, the last known names will be rebuilt", e);
+            }
             try (Stream<Path> list = Files.list(playerDataDir)) {
                 list.map(Path::toString)
                         .filter(file -> file.endsWith(".dat")) // only .dat files
@@ -352,14 +375,19 @@ void refreshFilesystemProfiles() {
                             }
                         })
                         .filter(Objects::nonNull)
-                        .forEach(this.knownUUIDs::add);
+                        .forEach(this.index::add);
             } catch (IOException e) {
                 SpongeCommon.logger().error("Failed to get player files");
             }
+            // Only users that are new to the index need to be looked up
+            this.index.all()
+                    .filter(uuid -> !this.index.hasName(uuid))
+                    .forEach(uuid -> this.server.getProfileCache().get(uuid)
+                            .ifPresent(profile -> this.index.updateName(uuid, profile.getName())));
         }
     }
 
-    private void pollFilesystemWatcher() {
+    private synchronized void pollFilesystemWatcher() {
         if (this.watchKey == null || !this.watchKey.isValid()) {
             // Reboot this if it's somehow failed.
             this.refreshFilesystemProfiles();
@@ -368,43 +396,41 @@ private void pollFilesystemWatcher() {
         }
         // We've already got the UUIDs, so we need to just see if the file system
         // watcher has found any more (or removed any).
-        synchronized (this.watcherUpdateMap) {
-            this.watcherUpdateMap.clear();
-            for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
-                @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                final @Nullable Path file = ev.context();
-
-                // It is possible that the context is null, in which case, ignore it.
-                if (file != null) {
-                    final String filename = file.getFileName().toString();
-
-                    // We don't determine the UUIDs yet, we'll only do that if we need to.
-                    this.watcherUpdateMap.computeIfAbsent(filename, f -> new SpongeUserMutableWatchEvent()).set(ev.kind());
-                }
+        this.watcherUpdateMap.clear();
+        for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
+            @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
+            final @Nullable Path file = ev.context();
+
+            // It is possible that the context is null, in which case, ignore it.
+            if (file != null) {
+                final String filename = file.getFileName().toString();
+
+                // We don't determine the UUIDs yet, we'll only do that if we need to.
+                this.watcherUpdateMap.computeIfAbsent(filename, f -> new SpongeUserMutableWatchEvent()).set(ev.kind());
             }
+        }
 
-            // Now we know what the final result is, we can act upon it.
-            for (final Map.Entry<String, SpongeUserMutableWatchEvent> entry : this.watcherUpdateMap.entrySet()) {
-                final WatchEvent.Kind<?> kind = entry.getValue().get();
-                if (kind != null) {
-                    final String name = entry.getKey();
-                    final UUID uuid;
-                    if (name.endsWith(".dat")) {
-                        try {
-                            uuid = UUID.fromString(name.substring(0, name.length() - 4));
-
-                            // It will only be create or delete here.
-                            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
-                            } else {
-                                this.knownUUIDs.remove(uuid);
-                                // We don't do this, in case we were caught at a bad time.
-                                // Everything else should handle it for us, however.
-                                // this.userCache.invalidate(uuid);
-                            }
-                        } catch (final IllegalArgumentException ex) {
-                            // ignored, file isn't of use to us.
+        // Now we know what the final result is, we can act upon it.
+        for (final Map.Entry<String, SpongeUserMutableWatchEvent> entry : this.watcherUpdateMap.entrySet()) {
+            final WatchEvent.Kind<?> kind = entry.getValue().get();
+            if (kind != null) {
+                final String name = entry.getKey();
+                final UUID uuid;
+                if (name.endsWith(".dat")) {
+                    try {
+                        uuid = UUID.fromString(name.substring(0, name.length() - 4));
+
+                        // It will only be create or delete here.
+                        if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                            this.index.add(uuid);
+                        } else {
+                            this.index.remove(uuid);
+                            // We don't do this, in case we were caught at a bad time.
+                            // Everything else should handle it for us, however.
+                            // this.userCache.invalidate(uuid);
                         }
+                    } catch (final IllegalArgumentException ex) {
+                        // ignored, file isn't of use to us.
                     }
                 }
             }
@@ -431,16 +457,60 @@ private Path getSaveHandlerDirectory() {
     public void saveDirtyUsers() {
         // If they are online, Minecraft will do the save automatically.
         this.dirtyUsers.removeIf(SpongeUserData::isOnline);
-        for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
-            try {
-                user.save();
-            } catch (final IOException ignored) {
-                // There isn't much we can do here. The error has been logged, but
-                // the user is still available at this time so let's continue...
+        // Only the snapshots are taken here, the files are written by the writer
+        for (final SpongeUserData user : this.dirtyUsers) {
+            this.save(user);
+        }
+        final @Nullable CompoundTag index = this.index.saveIfDirty();
+        if (index != null) {
+            final Path file = this.getSaveHandlerDirectory().resolve(SpongeUserIndex.FILE_NAME);
+            this.indexSave = CompletableFuture.runAsync(() -> {
+                try {
+                    UserDataWriter.writeAtomically(file, index);
+                } catch (final IOException e) {
+                    SpongeCommon.logger().warn("Failed to save the user index [{}]!", file, e);
+                }
+            }, this.executorService);
+        }
+    }
+
+    /**
+     * Saves the given user on the user data writer. The user is marked dirty
+     * again if the save fails.
+     *
+     * @param user The user to save
+     * @return A future completed once the user is saved
+     */
+    public CompletableFuture<Boolean> save(final SpongeUserData user) {
+        this.dirtyUsers.remove(user);
+        final CompletableFuture<Boolean> future = this.writer.write(user.uniqueId(), user.dataFile(), user.snapshot());
+        future.whenComplete((result, error) -> {
+            // There isn't much we can do here. The error has been logged, but
+            // the user is still available at this time so let's try again later...
+            if (error != null && this.userCache.getIfPresent(user.uniqueId()) == user) {
+                this.dirtyUsers.add(user);
             }
+        });
+        return future;
+    }
+
+    /**
+     * Waits for all the queued user data writes and the last index save to
+     * finish.
+     */
+    public void flush() {
+        this.writer.flush();
+        // The loader executor is a daemon thread, so the index would be lost if the server stopped mid-write
+        final @Nullable CompletableFuture<Void> indexSave = this.indexSave;
+        if (indexSave != null) {
+            indexSave.join();
         }
     }
 
+    public UserDataWriter writer() {
+        return this.writer;
+    }
+
     public void unmarkDirty(final SpongeUserData user) {
         this.dirtyUsers.remove(user);
     }
@@ -0,0 +1,279 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes offline user data files on a small pool of I/O threads.
+ *
+ * <p>Writes of the same user are performed in submission order. A write that
+ * is still queued is replaced by a newer snapshot of the same user instead of
+ * writing the file twice. Files are written to a temporary file first and then
+ * moved over the previous data file, so a crash never leaves a truncated
+ * file behind.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public final class UserDataWriter {
+
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    private final ExecutorService executor = new ThreadPoolExecutor(UserDataWriter.THREADS, UserDataWriter.THREADS,
+            30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-User-Data-Writer-%d")
+            .build());
+
+    private final Object lock = new Object();
+    /**
+     * Writes that have not been started yet, by user. Guarded by {@link #lock}.
+     */
+    private final Map<UUID, PendingWrite> queued = new HashMap<>();
+    /**
+     * The result of the last submitted write of each user, which the next
+     * write of that user is chained to. Guarded by {@link #lock}.
+     */
+    private final Map<UUID, CompletableFuture<Boolean>> latest = new HashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalWriteTime = new LongAdder();
+    private final AtomicLong maxWriteTime = new AtomicLong();
+
+    UserDataWriter() {
+        ((ThreadPoolExecutor) this.executor).allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues the given data to be written to the file of the user.
+     *
+     * @param uniqueId The unique id of the user
+     * @param file The data file of the user
+     * @param data The data to write, must not be modified afterwards
+     * @return A future completed once the data is written
+     */
+    public CompletableFuture<Boolean> write(final UUID uniqueId, final Path file, final CompoundTag data) {
+        synchronized (this.lock) {
+            final @Nullable PendingWrite queuedWrite = this.queued.get(uniqueId);
+            if (queuedWrite != null) {
+                queuedWrite.data = data;
+                this.coalesced.increment();
+                return queuedWrite.result;
+            }
+            final PendingWrite write = new PendingWrite(file, data);
+            this.queued.put(uniqueId, write);
+            this.queueDepth.incrementAndGet();
+
+            final @Nullable CompletableFuture<Boolean> previous = this.latest.put(uniqueId, write.result);
+            if (previous == null) {
+                this.executor.execute(() -> this.run(uniqueId, write));
+            } else {
+                previous.whenCompleteAsync((result, error) -> this.run(uniqueId, write), this.executor);
+            }
+            write.result.whenComplete((result, error) -> {
+                synchronized (this.lock) {
+                    this.latest.remove(uniqueId, write.result);
+                }
+            });
+            return write.result;
+        }
+    }
+
+    /**
+     * Waits for the queued and running writes of the given user to finish.
+     *
+     * @param uniqueId The unique id of the user
+     */
+    public void await(final UUID uniqueId) {
+        final @Nullable CompletableFuture<Boolean> future;
+        synchronized (this.lock) {
+            future = this.latest.get(uniqueId);
+        }
+        if (future != null) {
+            UserDataWriter.awaitQuietly(future);
+        }
+    }
+
+    /**
+     * Waits for all the queued and running writes to finish.
+     */
+    public void flush() {
+        final List<CompletableFuture<Boolean>> futures;
+        synchronized (this.lock) {
+            futures = new ArrayList<>(this.latest.values());
+        }
+        for (final CompletableFuture<Boolean> future : futures) {
+            UserDataWriter.awaitQuietly(future);
+        }
+    }
+
+    private static void awaitQuietly(final CompletableFuture<Boolean> future) {
+        try {
+            future.join();
+        } catch (final CompletionException ignored) {
+            // The failure has already been logged by the writer
+        }
+    }
+
+    private void run(final UUID uniqueId, final PendingWrite write) {
+        final CompoundTag data;
+        synchronized (this.lock) {
+            this.queued.remove(uniqueId, write);
+            data = write.data;
+        }
+        this.queueDepth.decrementAndGet();
+
+        final long start = System.nanoTime();
+        try {
+            UserDataWriter.writeAtomically(write.file, data);
+        } catch (final Throwable e) {
+            // Anything thrown here has to complete the result, otherwise its entry in latest
+            // is never removed and await and flush would block forever.
+            this.failures.increment();
+            // We log the message here because the error may be swallowed by a completable future.
+            SpongeCommon.logger().warn("Failed to save user file [{}]!", write.file, e);
+            write.result.completeExceptionally(e);
+            return;
+        }
+        final long time = System.nanoTime() - start;
+        this.writes.increment();
+        this.totalWriteTime.add(time);
+        this.maxWriteTime.accumulateAndGet(time, Math::max);
+        write.result.complete(true);
+    }
+
+    static void writeAtomically(final Path file, final CompoundTag data) throws IOException {
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (final OutputStream out = Files.newOutputStream(temp)) {
+                NbtIo.writeCompressed(data, out);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gets the number of writes that are queued and not started yet.
+     *
+     * @return The queue depth
+     */
+    public int queueDepth() {
+        return this.queueDepth.get();
+    }
+
+    /**
+     * Gets the number of user files that have been written.
+     *
+     * @return The number of writes
+     */
+    public long writes() {
+        return this.writes.sum();
+    }
+
+    /**
+     * Gets the number of writes that were merged into an already queued
+     * write of the same user.
+     *
+     * @return The number of coalesced writes
+     */
+    public long coalesced() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * Gets the number of writes that failed.
+     *
+     * @return The number of failures
+     */
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Gets the average time spent writing a single user file, in nanoseconds.
+     *
+     * @return The average write time
+     */
+    public long averageWriteTime() {
+        final long writes = this.writes.sum();
+        return writes == 0 ? 0 : this.totalWriteTime.sum() / writes;
+    }
+
+    /**
+     * Gets the longest time spent writing a single user file, in nanoseconds.
+     *
+     * @return The maximum write time
+     */
+    public long maxWriteTime() {
+        return this.maxWriteTime.get();
+    }
+
+    private static final class PendingWrite {
+
+        final Path file;
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        CompoundTag data;
+
+        PendingWrite(final Path file, final CompoundTag data) {
+            this.file = file;
+            this.data = data;
+        }
+    }
+}
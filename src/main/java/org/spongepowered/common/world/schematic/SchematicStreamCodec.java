@@ -0,0 +1,832 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.ShortTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagType;
+import net.minecraft.nbt.TagTypes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.volume.VolumeStreamUtils;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes gzipped Sponge Schematic files directly against the NBT
+ * stream, without building the intermediate {@link DataView} tree that
+ * {@link SchematicTranslator} works with.
+ *
+ * <p>Block and biome ids are decoded straight into packed backing data and
+ * block entities and entities are converted one at a time as they are read,
+ * so the raw data arrays and entity lists are never held in memory. This
+ * relies on the header (version, data version and dimensions) being written
+ * ahead of the bulk sections, which is the order {@link #write} uses.
+ * Schematics of an older version, ones that need to be upgraded by the
+ * DataFixer, or ones with the header after the bulk sections are read into
+ * tags and handed to the {@link SchematicTranslator} instead.</p>
+ *
+ * <p>Streams passed in are never closed, that is left to the caller. The
+ * {@link #load(Path)} and {@link #save(Schematic, Path)} entry points take
+ * care of the files themselves.</p>
+ */
+public final class SchematicStreamCodec {
+
+    private static final String SCHEMATIC = Constants.Sponge.Schematic.SCHEMATIC.asString('.');
+    private static final String VERSION = Constants.Sponge.Schematic.VERSION.asString('.');
+    private static final String DATA_VERSION = Constants.Sponge.Schematic.DATA_VERSION.asString('.');
+    private static final String METADATA = Constants.Sponge.Schematic.METADATA.asString('.');
+    private static final String WIDTH = Constants.Sponge.Schematic.WIDTH.asString('.');
+    private static final String HEIGHT = Constants.Sponge.Schematic.HEIGHT.asString('.');
+    private static final String LENGTH = Constants.Sponge.Schematic.LENGTH.asString('.');
+    private static final String OFFSET = Constants.Sponge.Schematic.OFFSET.asString('.');
+    private static final String BLOCKS = Constants.Sponge.Schematic.BLOCK_CONTAINER.asString('.');
+    private static final String BIOMES = Constants.Sponge.Schematic.BIOME_CONTAINER.asString('.');
+    private static final String PALETTE = Constants.Sponge.Schematic.PALETTE.asString('.');
+    private static final String DATA = Constants.Sponge.Schematic.BLOCK_DATA.asString('.');
+    private static final String BLOCK_ENTITIES = Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER.asString('.');
+    private static final String ENTITIES = Constants.Sponge.Schematic.ENTITIES.asString('.');
+    private static final String ID = Constants.Sponge.Schematic.ENTITIES_ID.asString('.');
+    private static final String POS = Constants.Sponge.Schematic.ENTITIES_POS.asString('.');
+
+    private static final Environment SERVER = new ServerEnvironment();
+
+    private SchematicStreamCodec() {
+    }
+
+    /**
+     * Loads a schematic from the given gzipped file.
+     *
+     * @param file The file to read
+     * @return The schematic
+     * @throws IOException If the file could not be read
+     * @throws InvalidDataException If the schematic is malformed
+     */
+    public static Schematic load(final Path file) throws IOException, InvalidDataException {
+        try (final InputStream stream = Files.newInputStream(file)) {
+            return SchematicStreamCodec.read(stream);
+        }
+    }
+
+    /**
+     * Saves a schematic to the given file in the current format, gzipped.
+     * The schematic is written next to the file first and moved in place
+     * once complete, an existing file is replaced.
+     *
+     * @param schematic The schematic to save
+     * @param file The file to write
+     * @throws IOException If the file could not be written
+     */
+    public static void save(final Schematic schematic, final Path file) throws IOException {
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (final OutputStream stream = Files.newOutputStream(temp)) {
+                SchematicStreamCodec.write(schematic, stream);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a schematic from the given gzipped stream.
+     *
+     * @param stream The stream to read from
+     * @return The schematic
+     * @throws IOException If the stream could not be read
+     * @throws InvalidDataException If the schematic is malformed
+     */
+    public static Schematic read(final InputStream stream) throws IOException, InvalidDataException {
+        return SchematicStreamCodec.read(stream, SchematicStreamCodec.SERVER);
+    }
+
+    /**
+     * Writes a schematic to the given stream in the current format, gzipped.
+     *
+     * @param schematic The schematic to write
+     * @param stream The stream to write to
+     * @throws IOException If the stream could not be written to
+     */
+    public static void write(final Schematic schematic, final OutputStream stream) throws IOException {
+        SchematicStreamCodec.write(schematic, stream, SchematicStreamCodec.SERVER);
+    }
+
+    static Schematic read(final InputStream stream, final Environment environment) throws IOException, InvalidDataException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+        if (in.readByte() != Tag.TAG_COMPOUND) {
+            throw new InvalidDataException("Schematic root is not a compound tag");
+        }
+        in.readUTF();
+        final Reader reader = new Reader(environment);
+        byte type = in.readByte();
+        if (type != Tag.TAG_END) {
+            final String name = in.readUTF();
+            if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.SCHEMATIC.equals(name)) {
+                // Version 3 wraps everything, anything trailing the wrapper is of no interest
+                reader.readCompound(in, reader::readEntry);
+                return reader.finish();
+            }
+            reader.readEntry(in, type, name);
+            reader.readCompound(in, reader::readEntry);
+        }
+        return reader.finish();
+    }
+
+    static void write(final Schematic schematic, final OutputStream stream, final Environment environment) throws IOException {
+        final int xMin = schematic.min().x();
+        final int yMin = schematic.min().y();
+        final int zMin = schematic.min().z();
+        final int width = schematic.size().x();
+        final int height = schematic.size().y();
+        final int length = schematic.size().z();
+        if (width > Constants.Sponge.Schematic.MAX_SIZE || height > Constants.Sponge.Schematic.MAX_SIZE || length > Constants.Sponge.Schematic.MAX_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                "Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)", width,
+                height, length, Constants.Sponge.Schematic.MAX_SIZE
+            ));
+        }
+
+        // The required mods are part of the header, so palettes have to be
+        // assigned before anything is written, the data itself is streamed afterwards.
+        final Set<String> requiredMods = new HashSet<>();
+        final Map<Vector3i, BlockEntityArchetype> blockEntities = schematic.blockEntityArchetypes();
+        final @Nullable Palette.Mutable<BlockState, BlockType> blockPalette;
+        final CompoundTag blockPaletteTag = new CompoundTag();
+        int blockDataLength = 0;
+        if (schematic.blockPalette().highestId() != 0) {
+            blockPalette = schematic.blockPalette().asMutable(environment.registries());
+            for (int y = 0; y < height; y++) {
+                for (int z = 0; z < length; z++) {
+                    for (int x = 0; x < width; x++) {
+                        blockDataLength += SchematicStreamCodec.varIntSize(blockPalette.orAssign(schematic.block(xMin + x, yMin + y, zMin + z)));
+                    }
+                }
+            }
+            SchematicTranslator.writePalette(blockPalette, environment.blockTypes(), BlockState::type, requiredMods, blockPaletteTag::putInt);
+            for (final BlockEntityArchetype archetype : blockEntities.values()) {
+                SchematicStreamCodec.addRequiredMod(requiredMods, archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE));
+            }
+        } else {
+            blockPalette = null;
+        }
+
+        final @Nullable Palette.Mutable<Biome, Biome> biomePalette;
+        final CompoundTag biomePaletteTag = new CompoundTag();
+        int biomeDataLength = 0;
+        if (schematic.biomePalette().highestId() != 0) {
+            biomePalette = schematic.biomePalette().asMutable(environment.registries());
+            for (int y = 0; y < height; y++) {
+                for (int z = 0; z < length; z++) {
+                    for (int x = 0; x < width; x++) {
+                        biomeDataLength += SchematicStreamCodec.varIntSize(biomePalette.orAssign(schematic.biome(xMin + x, yMin + y, zMin + z)));
+                    }
+                }
+            }
+            SchematicTranslator.writePalette(biomePalette, environment.biomes(), Function.identity(), requiredMods, biomePaletteTag::putInt);
+        } else {
+            biomePalette = null;
+        }
+
+        final List<EntityArchetypeEntry> entities = new ArrayList<>(schematic.entityArchetypesByPosition());
+        for (final EntityArchetypeEntry entry : entities) {
+            SchematicStreamCodec.addRequiredMod(requiredMods, entry.archetype().type().key(RegistryTypes.ENTITY_TYPE));
+        }
+
+        final GZIPOutputStream gzip = new GZIPOutputStream(stream);
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip));
+        out.writeByte(Tag.TAG_COMPOUND);
+        out.writeUTF("");
+        out.writeByte(Tag.TAG_COMPOUND);
+        out.writeUTF(SchematicStreamCodec.SCHEMATIC);
+
+        SchematicStreamCodec.writeTag(out, SchematicStreamCodec.VERSION, IntTag.valueOf(Constants.Sponge.Schematic.CURRENT_VERSION));
+        SchematicStreamCodec.writeTag(out, SchematicStreamCodec.DATA_VERSION,
+            IntTag.valueOf(environment.dataVersion()));
+        final DataContainer metadata = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        for (final DataQuery metaKey : schematic.metadata().keys(false)) {
+            metadata.set(metaKey, schematic.metadata().get(metaKey).get());
+        }
+        if (!requiredMods.isEmpty()) {
+            metadata.set(Constants.Sponge.Schematic.REQUIRED_MODS, new ArrayList<>(requiredMods));
+        }
+        if (!metadata.keys(false).isEmpty()) {
+            SchematicStreamCodec.writeTag(out, SchematicStreamCodec.METADATA, NBTTranslator.INSTANCE.translate(metadata));
+        }
+        SchematicStreamCodec.writeTag(out, SchematicStreamCodec.WIDTH, ShortTag.valueOf((short) width));
+        SchematicStreamCodec.writeTag(out, SchematicStreamCodec.HEIGHT, ShortTag.valueOf((short) height));
+        SchematicStreamCodec.writeTag(out, SchematicStreamCodec.LENGTH, ShortTag.valueOf((short) length));
+        SchematicStreamCodec.writeTag(out, SchematicStreamCodec.OFFSET, new IntArrayTag(new int[]{xMin, yMin, zMin}));
+
+        if (blockPalette != null) {
+            out.writeByte(Tag.TAG_COMPOUND);
+            out.writeUTF(SchematicStreamCodec.BLOCKS);
+            SchematicStreamCodec.writeTag(out, SchematicStreamCodec.PALETTE, blockPaletteTag);
+            out.writeByte(Tag.TAG_BYTE_ARRAY);
+            out.writeUTF(SchematicStreamCodec.DATA);
+            out.writeInt(blockDataLength);
+            for (int y = 0; y < height; y++) {
+                for (int z = 0; z < length; z++) {
+                    for (int x = 0; x < width; x++) {
+                        SchematicStreamCodec.writeVarInt(out, blockPalette.orAssign(schematic.block(xMin + x, yMin + y, zMin + z)));
+                    }
+                }
+            }
+            SchematicStreamCodec.writeListHeader(out, SchematicStreamCodec.BLOCK_ENTITIES, blockEntities.size());
+            for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : blockEntities.entrySet()) {
+                final Vector3i pos = entry.getKey();
+                final BlockEntityArchetype archetype = entry.getValue();
+                final CompoundTag blockEntity = new CompoundTag();
+                blockEntity.put(SchematicStreamCodec.POS, new IntArrayTag(new int[]{pos.x() - xMin, pos.y() - yMin, pos.z() - zMin}));
+                blockEntity.put(SchematicStreamCodec.DATA, NBTTranslator.INSTANCE.translate(archetype.blockEntityData()));
+                blockEntity.putString(SchematicStreamCodec.ID, archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE).asString());
+                blockEntity.write(out);
+            }
+            out.writeByte(Tag.TAG_END);
+        }
+
+        if (biomePalette != null) {
+            out.writeByte(Tag.TAG_COMPOUND);
+            out.writeUTF(SchematicStreamCodec.BIOMES);
+            SchematicStreamCodec.writeTag(out, SchematicStreamCodec.PALETTE, biomePaletteTag);
+            out.writeByte(Tag.TAG_BYTE_ARRAY);
+            out.writeUTF(SchematicStreamCodec.DATA);
+            out.writeInt(biomeDataLength);
+            for (int y = 0; y < height; y++) {
+                for (int z = 0; z < length; z++) {
+                    for (int x = 0; x < width; x++) {
+                        SchematicStreamCodec.writeVarInt(out, biomePalette.orAssign(schematic.biome(xMin + x, yMin + y, zMin + z)));
+                    }
+                }
+            }
+            out.writeByte(Tag.TAG_END);
+        }
+
+        SchematicStreamCodec.writeListHeader(out, SchematicStreamCodec.ENTITIES, entities.size());
+        for (final EntityArchetypeEntry entry : entities) {
+            final CompoundTag entity = new CompoundTag();
+            final ListTag position = new ListTag();
+            position.add(DoubleTag.valueOf(entry.position().x()));
+            position.add(DoubleTag.valueOf(entry.position().y()));
+            position.add(DoubleTag.valueOf(entry.position().z()));
+            entity.put(SchematicStreamCodec.POS, position);
+            entity.putString(SchematicStreamCodec.ID, entry.archetype().type().key(RegistryTypes.ENTITY_TYPE).asString());
+            entity.put(SchematicStreamCodec.DATA, NBTTranslator.INSTANCE.translate(entry.archetype().entityData()));
+            entity.write(out);
+        }
+
+        out.writeByte(Tag.TAG_END);
+        out.writeByte(Tag.TAG_END);
+        out.flush();
+        gzip.finish();
+    }
+
+    private static void addRequiredMod(final Set<String> requiredMods, final ResourceKey key) {
+        if (!ResourceKey.MINECRAFT_NAMESPACE.equals(key.namespace())) {
+            requiredMods.add(key.namespace());
+        }
+    }
+
+    private static void writeTag(final DataOutput out, final String name, final Tag tag) throws IOException {
+        out.writeByte(tag.getId());
+        out.writeUTF(name);
+        tag.write(out);
+    }
+
+    private static void writeListHeader(final DataOutput out, final String name, final int size) throws IOException {
+        out.writeByte(Tag.TAG_LIST);
+        out.writeUTF(name);
+        out.writeByte(size == 0 ? Tag.TAG_END : Tag.TAG_COMPOUND);
+        out.writeInt(size);
+    }
+
+    private static int varIntSize(final int value) {
+        int size = 1;
+        int remaining = value >>> 7;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    private static void writeVarInt(final DataOutput out, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & -128) != 0) {
+            out.writeByte(remaining & 127 | 128);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Decodes {@code byteLength} bytes of varint ids, laid out in schematic
+     * order ({@code (y * length + z) * width + x}), into the backing data
+     * using the buffer order ({@code (x * length + z) * height + y}). The
+     * data has to hold exactly one id per position of the volume.
+     */
+    private static void readVarIntData(
+        final DataInput in, final int byteLength, final int width, final int height, final int length,
+        final BlockBackingData target
+    ) throws IOException {
+        final int max = target.getMax();
+        final int yzSlice = height * length;
+        int read = 0;
+        int x = 0;
+        int y = 0;
+        int z = 0;
+        while (read < byteLength) {
+            int value = 0;
+            int varIntLength = 0;
+            byte current;
+            do {
+                if (read == byteLength) {
+                    throw new InvalidDataException("Truncated VarInt in schematic data");
+                }
+                current = in.readByte();
+                read++;
+                value |= (current & 127) << (varIntLength++ * 7);
+                if (varIntLength > 5) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                }
+            } while ((current & 128) == 128);
+            if (y >= height) {
+                throw new InvalidDataException("Schematic data is larger than the schematic dimensions");
+            }
+            if (value < 0 || value > max) {
+                throw new InvalidDataException("Schematic data references palette id " + value + " which is out of range");
+            }
+            target.set(x * yzSlice + z * height + y, value);
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
+        }
+        if (y < height) {
+            throw new InvalidDataException("Schematic data is smaller than the schematic dimensions");
+        }
+    }
+
+    /**
+     * Everything the codec needs from the running game, kept apart so the
+     * codec can be exercised without a server.
+     */
+    interface Environment {
+
+        RegistryHolder registries();
+
+        Registry<BlockType> blockTypes();
+
+        Registry<Biome> biomes();
+
+        int dataVersion();
+
+        Consumer<DataView> blockEntityReader(Vector3i offset, SpongeArchetypeVolume volume);
+
+        Optional<EntityArchetypeEntry> readEntity(DataView entity);
+
+        /**
+         * Reads a schematic the codec can't stream through the
+         * {@link DataView} based {@link SchematicTranslator}.
+         *
+         * @param schematic The whole schematic
+         * @return The schematic
+         */
+        Schematic translate(DataView schematic);
+    }
+
+    private static final class ServerEnvironment implements Environment {
+
+        @Override
+        public RegistryHolder registries() {
+            return Sponge.server();
+        }
+
+        @Override
+        public Registry<BlockType> blockTypes() {
+            return VolumeStreamUtils.nativeToSpongeRegistry(SpongeCommon.server().registryAccess().registryOrThrow(Registries.BLOCK));
+        }
+
+        @Override
+        public Registry<Biome> biomes() {
+            return VolumeStreamUtils.nativeToSpongeRegistry(SpongeCommon.server().registryAccess().registryOrThrow(Registries.BIOME));
+        }
+
+        @Override
+        public int dataVersion() {
+            return SharedConstants.getCurrentVersion().getDataVersion().getVersion();
+        }
+
+        @Override
+        public Consumer<DataView> blockEntityReader(final Vector3i offset, final SpongeArchetypeVolume volume) {
+            return SchematicTranslator.deserializeBlockEntities(offset, volume, false);
+        }
+
+        @Override
+        public Optional<EntityArchetypeEntry> readEntity(final DataView entity) {
+            return SchematicTranslator.deserializeEntityArchetype().apply(entity);
+        }
+
+        @Override
+        public Schematic translate(final DataView schematic) {
+            return SchematicTranslator.get().translate(schematic);
+        }
+    }
+
+    private static final class Reader {
+
+        private final Environment environment;
+        private final NbtAccounter accounter = NbtAccounter.unlimitedHeap();
+        // Everything that was not streamed, the header and any bulk sections that could not be
+        private final CompoundTag consumed = new CompoundTag();
+        private final List<CompoundTag> pendingBlockEntities = new ArrayList<>();
+        private final List<EntityArchetypeEntry> entities = new ArrayList<>();
+        private @Nullable MutableBimapPalette<BlockState, BlockType> blockPalette;
+        private @Nullable BlockBackingData blockData;
+        private @Nullable MutableBimapPalette<Biome, Biome> biomePalette;
+        private @Nullable BlockBackingData biomeData;
+        private @Nullable SpongeArchetypeVolume volume;
+        private @Nullable Consumer<DataView> blockEntityReader;
+
+        Reader(final Environment environment) {
+            this.environment = environment;
+        }
+
+        interface EntryReader {
+
+            void read(DataInput in, byte type, String name) throws IOException;
+        }
+
+        void readCompound(final DataInput in, final EntryReader reader) throws IOException {
+            byte type;
+            while ((type = in.readByte()) != Tag.TAG_END) {
+                reader.read(in, type, in.readUTF());
+            }
+        }
+
+        void readEntry(final DataInput in, final byte type, final String name) throws IOException {
+            if (this.isStreamable()) {
+                if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.BLOCKS.equals(name)) {
+                    this.readCompound(in, this::readBlocksEntry);
+                    this.checkBlocks();
+                    return;
+                }
+                if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.BIOMES.equals(name)) {
+                    this.readCompound(in, this::readBiomesEntry);
+                    this.checkBiomes();
+                    return;
+                }
+                if (type == Tag.TAG_LIST && SchematicStreamCodec.ENTITIES.equals(name)) {
+                    this.readList(in, this::readEntity);
+                    return;
+                }
+            }
+            this.consumed.put(name, TagTypes.getType(type).load(in, this.accounter));
+            this.tryCreateVolume();
+        }
+
+        private void readBlocksEntry(final DataInput in, final byte type, final String name) throws IOException {
+            if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.PALETTE.equals(name)) {
+                this.readBlockPalette(CompoundTag.TYPE.load(in, this.accounter));
+            } else if (type == Tag.TAG_BYTE_ARRAY && SchematicStreamCodec.DATA.equals(name)) {
+                this.readBlockData(in, in.readInt());
+            } else if (type == Tag.TAG_LIST && SchematicStreamCodec.BLOCK_ENTITIES.equals(name)) {
+                this.readList(in, this::readBlockEntity);
+            } else {
+                TagTypes.getType(type).skip(in, this.accounter);
+            }
+        }
+
+        private void readBiomesEntry(final DataInput in, final byte type, final String name) throws IOException {
+            if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.PALETTE.equals(name)) {
+                this.readBiomePalette(CompoundTag.TYPE.load(in, this.accounter));
+            } else if (type == Tag.TAG_BYTE_ARRAY && SchematicStreamCodec.DATA.equals(name)) {
+                this.readBiomeData(in, in.readInt());
+            } else {
+                TagTypes.getType(type).skip(in, this.accounter);
+            }
+        }
+
+        private void readList(final DataInput in, final Consumer<CompoundTag> consumer) throws IOException {
+            final byte elementType = in.readByte();
+            final int size = in.readInt();
+            final TagType<?> tagType = TagTypes.getType(elementType);
+            for (int i = 0; i < size; i++) {
+                if (elementType == Tag.TAG_COMPOUND) {
+                    consumer.accept(CompoundTag.TYPE.load(in, this.accounter));
+                } else {
+                    tagType.skip(in, this.accounter);
+                }
+            }
+        }
+
+        Schematic finish() throws IOException {
+            if (!this.isCurrent()) {
+                return this.environment.translate(NBTTranslator.INSTANCE.translate(this.consumed));
+            }
+            final int width = this.width();
+            final int height = this.height();
+            final int length = this.length();
+            if (width <= 0 || height <= 0 || length <= 0) {
+                throw new InvalidDataException(String.format(
+                    "Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
+                    width, height, length, Constants.Sponge.Schematic.MAX_SIZE
+                ));
+            }
+
+            // Bulk sections that showed up ahead of the header
+            if (this.consumed.contains(SchematicStreamCodec.BLOCKS, Tag.TAG_COMPOUND)) {
+                final CompoundTag blocks = this.consumed.getCompound(SchematicStreamCodec.BLOCKS);
+                if (blocks.contains(SchematicStreamCodec.PALETTE, Tag.TAG_COMPOUND)) {
+                    this.readBlockPalette(blocks.getCompound(SchematicStreamCodec.PALETTE));
+                }
+                if (blocks.contains(SchematicStreamCodec.DATA, Tag.TAG_BYTE_ARRAY)) {
+                    final byte[] data = blocks.getByteArray(SchematicStreamCodec.DATA);
+                    this.readBlockData(new DataInputStream(new ByteArrayInputStream(data)), data.length);
+                }
+                this.checkBlocks();
+                blocks.getList(SchematicStreamCodec.BLOCK_ENTITIES, Tag.TAG_COMPOUND)
+                    .forEach(tag -> this.readBlockEntity((CompoundTag) tag));
+            }
+            if (this.consumed.contains(SchematicStreamCodec.BIOMES, Tag.TAG_COMPOUND)) {
+                final CompoundTag biomes = this.consumed.getCompound(SchematicStreamCodec.BIOMES);
+                if (biomes.contains(SchematicStreamCodec.PALETTE, Tag.TAG_COMPOUND)) {
+                    this.readBiomePalette(biomes.getCompound(SchematicStreamCodec.PALETTE));
+                }
+                if (biomes.contains(SchematicStreamCodec.DATA, Tag.TAG_BYTE_ARRAY)) {
+                    final byte[] data = biomes.getByteArray(SchematicStreamCodec.DATA);
+                    this.readBiomeData(new DataInputStream(new ByteArrayInputStream(data)), data.length);
+                }
+                this.checkBiomes();
+            }
+            this.consumed.getList(SchematicStreamCodec.ENTITIES, Tag.TAG_COMPOUND)
+                .forEach(tag -> this.readEntity((CompoundTag) tag));
+
+            final SpongeArchetypeVolume volume = this.createVolume();
+            this.applyBiomes(volume);
+            this.entities.forEach(volume::addEntity);
+
+            final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
+            if (this.consumed.contains(SchematicStreamCodec.METADATA, Tag.TAG_COMPOUND)) {
+                SchematicTranslator.readMetadata(
+                    NBTTranslator.INSTANCE.translate(this.consumed.getCompound(SchematicStreamCodec.METADATA)), builder);
+            }
+            builder.volume(volume);
+            return builder.build();
+        }
+
+        private boolean isCurrent() {
+            return this.consumed.getInt(SchematicStreamCodec.VERSION) == Constants.Sponge.Schematic.CURRENT_VERSION
+                && this.consumed.contains(SchematicStreamCodec.DATA_VERSION, Tag.TAG_ANY_NUMERIC)
+                && this.consumed.getInt(SchematicStreamCodec.DATA_VERSION) >= this.environment.dataVersion();
+        }
+
+        private boolean isStreamable() {
+            return this.isCurrent() && this.width() > 0 && this.height() > 0 && this.length() > 0;
+        }
+
+        private int width() {
+            return this.consumed.getShort(SchematicStreamCodec.WIDTH);
+        }
+
+        private int height() {
+            return this.consumed.getShort(SchematicStreamCodec.HEIGHT);
+        }
+
+        private int length() {
+            return this.consumed.getShort(SchematicStreamCodec.LENGTH);
+        }
+
+        private BlockBackingData createIdData(final @Nullable Palette<?, ?> palette) {
+            final int size = this.width() * this.height() * this.length();
+            // Without the palette there is no telling how many bits are needed yet
+            return palette == null
+                ? new BlockBackingData.CharBackingData(new char[size])
+                : new BlockBackingData.PackedBackingData(size, palette.highestId());
+        }
+
+        private void readBlockPalette(final CompoundTag paletteTag) {
+            final Registry<BlockType> blockRegistry = this.environment.blockTypes();
+            final MutableBimapPalette<BlockState, BlockType> palette = new MutableBimapPalette<>(
+                PaletteTypes.BLOCK_STATE_PALETTE.get(),
+                blockRegistry,
+                RegistryTypes.BLOCK_TYPE,
+                paletteTag.size()
+            );
+            for (final String key : paletteTag.getAllKeys()) {
+                final BlockState state = palette.type().resolver().apply(key, blockRegistry)
+                    .orElseGet(() -> BlockTypes.BEDROCK.get().defaultState());
+                palette.assign(state, paletteTag.getInt(key));
+            }
+            if (this.blockData != null && palette.highestId() > this.blockData.getMax()) {
+                throw new InvalidDataException("BlockPalette is too large to follow the BlockData it belongs to");
+            }
+            this.blockPalette = palette;
+            this.tryCreateVolume();
+        }
+
+        private void readBlockData(final DataInput in, final int byteLength) throws IOException {
+            final BlockBackingData data = this.createIdData(this.blockPalette);
+            SchematicStreamCodec.readVarIntData(in, byteLength, this.width(), this.height(), this.length(), data);
+            this.blockData = data;
+            this.tryCreateVolume();
+        }
+
+        private void checkBlocks() {
+            if (this.blockPalette == null) {
+                throw new InvalidDataException("Missing BlockPalette as required by Schematic Specification");
+            }
+            if (this.blockData == null) {
+                throw new InvalidDataException("Missing BlockData for Schematic");
+            }
+        }
+
+        private void readBiomePalette(final CompoundTag paletteTag) {
+            final Registry<Biome> biomeRegistry = this.environment.biomes();
+            final MutableBimapPalette<Biome, Biome> palette = new MutableBimapPalette<>(
+                PaletteTypes.BIOME_PALETTE.get(),
+                biomeRegistry,
+                RegistryTypes.BIOME,
+                paletteTag.size()
+            );
+            for (final String key : paletteTag.getAllKeys()) {
+                final Biome biome = palette.type().resolver().apply(key, biomeRegistry)
+                    .orElseThrow(() -> new InvalidDataException("Unknown biome in BiomePalette: " + key));
+                palette.assign(biome, paletteTag.getInt(key));
+            }
+            if (this.biomeData != null && palette.highestId() > this.biomeData.getMax()) {
+                throw new InvalidDataException("BiomePalette is too large to follow the BiomeData it belongs to");
+            }
+            this.biomePalette = palette;
+        }
+
+        private void readBiomeData(final DataInput in, final int byteLength) throws IOException {
+            final BlockBackingData data = this.createIdData(this.biomePalette);
+            SchematicStreamCodec.readVarIntData(in, byteLength, this.width(), this.height(), this.length(), data);
+            this.biomeData = data;
+        }
+
+        private void checkBiomes() {
+            if (this.biomePalette == null) {
+                throw new InvalidDataException("Missing BiomePalette as required by the schematic spec");
+            }
+            if (this.biomeData == null) {
+                throw new InvalidDataException("Missing BiomeData for Schematic");
+            }
+        }
+
+        private void applyBiomes(final SpongeArchetypeVolume volume) {
+            final @Nullable MutableBimapPalette<Biome, Biome> palette = this.biomePalette;
+            final @Nullable BlockBackingData data = this.biomeData;
+            if (palette == null || data == null) {
+                return;
+            }
+            final Biome[] biomes = new Biome[palette.highestId() + 1];
+            for (int id = 0; id < biomes.length; id++) {
+                biomes[id] = palette.get(id, this.environment.registries()).orElse(null);
+            }
+            final Vector3i min = volume.min();
+            final int height = this.height();
+            final int length = this.length();
+            final int yzSlice = height * length;
+            for (int x = 0; x < this.width(); x++) {
+                for (int z = 0; z < length; z++) {
+                    for (int y = 0; y < height; y++) {
+                        final @Nullable Biome biome = biomes[data.get(x * yzSlice + z * height + y)];
+                        if (biome != null) {
+                            volume.setBiome(min.x() + x, min.y() + y, min.z() + z, biome);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void readBlockEntity(final CompoundTag blockEntity) {
+            if (this.blockEntityReader == null) {
+                this.pendingBlockEntities.add(blockEntity);
+                return;
+            }
+            this.blockEntityReader.accept(NBTTranslator.INSTANCE.translate(blockEntity));
+        }
+
+        private void readEntity(final CompoundTag entity) {
+            if (!entity.contains(SchematicStreamCodec.POS) || !entity.contains(SchematicStreamCodec.ID)) {
+                return;
+            }
+            this.environment.readEntity(NBTTranslator.INSTANCE.translate(entity)).ifPresent(this.entities::add);
+        }
+
+        private void tryCreateVolume() {
+            // Block entities need both the blocks and the final offset to be placed
+            if (this.volume == null && this.blockPalette != null && this.blockData != null
+                && this.consumed.contains(SchematicStreamCodec.OFFSET, Tag.TAG_INT_ARRAY)) {
+                this.createVolume();
+            }
+        }
+
+        private SpongeArchetypeVolume createVolume() {
+            if (this.volume != null) {
+                return this.volume;
+            }
+            final int[] offsetArray = this.consumed.contains(SchematicStreamCodec.OFFSET, Tag.TAG_INT_ARRAY)
+                ? this.consumed.getIntArray(SchematicStreamCodec.OFFSET)
+                : new int[3];
+            if (offsetArray.length != 3) {
+                throw new InvalidDataException("Schematic offset was not of length 3");
+            }
+            final Vector3i offset = new Vector3i(offsetArray[0], offsetArray[1], offsetArray[2]);
+            final Vector3i size = new Vector3i(this.width(), this.height(), this.length());
+            final ArrayMutableBlockBuffer blocks = this.blockPalette == null || this.blockData == null
+                ? new ArrayMutableBlockBuffer(offset, size)
+                : new ArrayMutableBlockBuffer(this.blockPalette, this.blockData, offset, size);
+            final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(offset, size, this.environment.registries(), blocks);
+            this.volume = volume;
+            this.blockEntityReader = this.environment.blockEntityReader(offset, volume);
+            for (final CompoundTag blockEntity : this.pendingBlockEntities) {
+                this.readBlockEntity(blockEntity);
+            }
+            this.pendingBlockEntities.clear();
+            return volume;
+        }
+    }
+}
@@ -76,6 +76,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -142,33 +143,7 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
 
         final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
         final Optional<DataView> metadataView = updatedView.getView(Constants.Sponge.Schematic.METADATA);
-        metadataView.ifPresent(metadata -> {
-            metadata.getView(DataQuery.of(".")).ifPresent(data -> {
-                for (final DataQuery key : data.keys(false)) {
-                    if (!metadata.contains(key)) {
-                        metadata.set(key, data.get(key).get());
-                    }
-                }
-            });
-            final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
-            metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
-                for (final String modId : mods) {
-                    if (!Sponge.pluginManager().plugin(modId).isPresent()) {
-                        if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
-                            SpongeCommon.logger().warn(
-                                "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
-                                schematicName, modId
-                            );
-                        }
-                    }
-                }
-            });
-            final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-            for (final DataQuery key : metadata.keys(false)) {
-                meta.set(key, metadata.get(key).get());
-            }
-            builder.metadata(meta);
-        });
+        metadataView.ifPresent(metadata -> SchematicTranslator.readMetadata(metadata, builder));
 
         final int width = updatedView.getShort(Constants.Sponge.Schematic.WIDTH)
             .orElseThrow(() -> new InvalidDataException("Missing value for: " + Constants.Sponge.Schematic.WIDTH));
@@ -226,7 +201,35 @@ offset, new Vector3i(width, height, length),
         return builder.build();
     }
 
-    private static Function<DataView, Optional<EntityArchetypeEntry>> deserializeEntityArchetype() {
+    static void readMetadata(final DataView metadata, final SpongeSchematicBuilder builder) {
+        metadata.getView(DataQuery.of(".")).ifPresent(data -> {
+            for (final DataQuery key : data.keys(false)) {
+                if (!metadata.contains(key)) {
+                    metadata.set(key, data.get(key).get());
+                }
+            }
+        });
+        final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
+        metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
+            for (final String modId : mods) {
+                if (!Sponge.pluginManager().plugin(modId).isPresent()) {
+                    if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
+                        SpongeCommon.logger().warn(
+                            "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
+                            schematicName, modId
+                        );
+                    }
+                }
+            }
+        });
+        final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        for (final DataQuery key : metadata.keys(false)) {
+            meta.set(key, metadata.get(key).get());
+        }
+        builder.metadata(meta);
+    }
+
+    static Function<DataView, Optional<EntityArchetypeEntry>> deserializeEntityArchetype() {
         return view -> {
             final String typeId = view.getString(Constants.Sponge.Schematic.ENTITIES_ID).get();
             final ResourceKey key = ResourceKey.resolve(typeId);
@@ -246,7 +249,7 @@ private static Function<DataView, Optional<EntityArchetypeEntry>> deserializeEnt
     }
 
     @NonNull
-    private static Consumer<DataView> deserializeBlockEntities(
+    static Consumer<DataView> deserializeBlockEntities(
         final Vector3i offset, final SpongeArchetypeVolume archetypeVolume,
         final boolean needsFixers
     ) {
@@ -548,6 +551,17 @@ private static <T, P> void writePaletteToView(
         final DataQuery paletteQuery,
         final Function<T, P> parentGetter,
         final Set<String> requiredMods
+    ) {
+        SchematicTranslator.writePalette(palette, parentRegistryType, parentGetter, requiredMods,
+            (stringified, id) -> view.set(paletteQuery.then(stringified), id));
+    }
+
+    static <T, P> void writePalette(
+        final Palette.Mutable<T, P> palette,
+        final Registry<P> parentRegistryType,
+        final Function<T, P> parentGetter,
+        final Set<String> requiredMods,
+        final BiConsumer<String, Integer> sink
     ) {
         palette.streamWithIds().forEach(entry -> {
             // getOrAssign to skip the optional, it will never assign
@@ -555,7 +569,7 @@ private static <T, P> void writePaletteToView(
                 parentRegistryType,
                 entry.getKey()
             );
-            view.set(paletteQuery.then(stringified), entry.getValue());
+            sink.accept(stringified, entry.getValue());
             final ResourceKey blockKey = parentRegistryType
                 .findValueKey(parentGetter.apply(entry.getKey()))
                 .orElseThrow(() -> new IllegalStateException(
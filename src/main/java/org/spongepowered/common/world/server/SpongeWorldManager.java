@@ -28,6 +28,8 @@
 import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.Lifecycle;
 import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.CrashReport;
 import net.minecraft.ReportedException;
 import net.minecraft.Util;
@@ -54,6 +56,7 @@
 import net.minecraft.world.level.LevelSettings;
 import net.minecraft.world.level.WorldDataConfiguration;
 import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.levelgen.PatrolSpawner;
@@ -75,7 +78,6 @@
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.LoadWorldEvent;
 import org.spongepowered.api.event.world.UnloadWorldEvent;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.world.DefaultWorldKeys;
 import org.spongepowered.api.world.WorldType;
@@ -105,25 +107,24 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public abstract class SpongeWorldManager implements WorldManager {
@@ -131,6 +132,8 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final MinecraftServer server;
     private final Path defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    // The radius the spawn ticket of each world was added with, so it can be removed again after a config reload
+    private final Object2IntMap<net.minecraft.resources.ResourceKey<Level>> spawnTicketRadii = new Object2IntOpenHashMap<>();
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
 
@@ -311,7 +314,7 @@ private CompletableFuture<ServerWorld> loadWorld0(final net.minecraft.resources.
         return SpongeCommon.asyncScheduler().submit(() -> this.prepareWorld(world)).thenApply(w -> {
                     ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
                     return w;
-                }).thenCompose(w -> this.postWorldLoad(world, false))
+                }).thenCompose(w -> this.postWorldLoad(world))
                   .thenApply(w -> (ServerWorld) w);
     }
 
@@ -479,12 +482,17 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         }
 
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
-
-        if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
-            loadedWorld.save(null, true, loadedWorld.noSave);
-            loadedWorld.noSave = true;
+        final CompletableFuture<@Nullable Boolean> saved;
+        if (loadedWorld == null) {
+            saved = CompletableFuture.completedFuture(null);
+        } else {
+            // Flush the world on the server thread, then keep it from saving again until the copy is done
+            saved = CompletableFuture.supplyAsync(() -> {
+                final boolean disableLevelSaving = loadedWorld.noSave;
+                loadedWorld.save(null, true, loadedWorld.noSave);
+                loadedWorld.noSave = true;
+                return disableLevelSaving;
+            }, this.server);
         }
 
         final boolean isDefaultWorld = DefaultWorldKeys.DEFAULT.equals(key);
@@ -492,74 +500,54 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final Path originalDirectory = this.getDirectory(key);
         final Path copyDirectory = this.getDirectory(copyKey);
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
+        final Predicate<Path> directoryFilter = dir -> {
+            // Silly recursion if the default world is being copied
+            if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                return false;
+            }
+            // Silly copying of vanilla sub worlds if the default world is being copied
+            return !isDefaultWorld || !this.isVanillaSubWorld(dir.getFileName().toString());
+        };
+        final Predicate<Path> fileFilter = file -> {
+            final String fileName = file.getFileName().toString();
+            // Do not copy backups (not relevant anymore)
+            return !fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) && !fileName.equals(Constants.World.LEVEL_DAT_OLD);
+        };
+
+        final WorldTransferFuture transfer = new WorldTransferFuture();
+        final CompletableFuture<Void> files = saved.thenCompose(disableLevelSaving -> {
+            final CompletableFuture<Void> copy = WorldFileTransfer.copy(originalDirectory, copyDirectory, directoryFilter, fileFilter, transfer);
+            if (disableLevelSaving == null) {
+                return copy;
+            }
+            return copy.whenCompleteAsync((ignored, throwable) -> loadedWorld.noSave = disableLevelSaving, this.server);
+        });
+        files.thenRunAsync(() -> {
+                    if (transfer.isCancelled()) {
+                        throw new CancellationException();
                     }
 
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
-                    // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
+                    final Path configFile = this.getConfigFile(key);
+                    final Path copyConfigFile = this.getConfigFile(copyKey);
+                    try {
+                        Files.createDirectories(copyConfigFile.getParent());
+                        Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                        this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
                     }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
+                }, this.server)
+                .whenCompleteAsync((ignored, throwable) -> {
+                    if (throwable == null) {
+                        transfer.complete(true);
+                        return;
                     }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+                    // Bail the whole deal if we hit IO problems!
+                    WorldFileTransfer.discard(copyDirectory, files);
+                    transfer.completeExceptionally(WorldFileTransfer.unwrap(throwable));
+                }, this.server);
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.walkFileTree(copyDirectory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException ignore) {
-            }
-
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
-
-        final Path configFile = this.getConfigFile(key);
-        final Path copyConfigFile = this.getConfigFile(copyKey);
-
-        try {
-            Files.createDirectories(copyConfigFile.getParent());
-            Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        try {
-            this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        return transfer;
     }
 
     @Override
@@ -590,30 +578,28 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path originalDirectory = this.getDirectory(key);
         final Path movedDirectory = this.getDirectory(movedKey);
 
-        try {
-            Files.createDirectories(movedDirectory);
-            Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        final Path configFile = this.getConfigFile(key);
-        final Path movedConfigFile = this.getConfigFile(movedKey);
-
-        try {
-            Files.createDirectories(movedConfigFile.getParent());
-            Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        try {
-            this.server().dataPackManager().move(this.findPack(key), key, movedKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        final WorldTransferFuture transfer = new WorldTransferFuture();
+        WorldFileTransfer.move(originalDirectory, movedDirectory, transfer)
+                .thenRunAsync(() -> {
+                    final Path configFile = this.getConfigFile(key);
+                    final Path movedConfigFile = this.getConfigFile(movedKey);
+                    try {
+                        Files.createDirectories(movedConfigFile.getParent());
+                        Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                        this.server().dataPackManager().move(this.findPack(key), key, movedKey);
+                    } catch (final IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, this.server)
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) {
+                        transfer.complete(true);
+                    } else {
+                        transfer.completeExceptionally(WorldFileTransfer.unwrap(throwable));
+                    }
+                });
 
-        return CompletableFuture.completedFuture(true);
+        return transfer;
     }
 
     @Override
@@ -682,8 +668,7 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
         final UnloadWorldEvent unloadWorldEvent = SpongeEventFactory.createUnloadWorldEvent(PhaseTracker.getCauseStackManager().currentCause(), (ServerWorld) world);
         SpongeCommon.post(unloadWorldEvent);
 
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), 11, registryKey.location());
+        this.removeSpawnTicket(world);
 
         ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().save();
 
@@ -753,13 +738,7 @@ public void loadLevel() {
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
-        for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
-            }
-        }
+        this.loadSpawnChunks(this.worlds.values());
 
         ((SpongeUserManager) Sponge.server().userManager()).init();
         ((SpongeServer) SpongeCommon.server()).getPlayerDataManager().load();
@@ -911,77 +890,54 @@ private ServerLevel prepareWorld(final ServerLevel world) {
         return world;
     }
 
-    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean blocking) {
-        final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
-        final PrimaryLevelDataBridge levelBridge = (PrimaryLevelDataBridge) levelData;
-        if (Level.OVERWORLD.equals(world.dimension()) || levelBridge.bridge$performsSpawnLogic()) {
-            final Optional<ResourceKey> worldTypeKey = this.worldTypeKey(world.dimensionType());
-            MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
-                    worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-            if (blocking) {
-                this.loadSpawnChunks(world);
-                return CompletableFuture.completedFuture(world); // Chunk are generated
-            } else {
-                return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
-            }
-        }
-        return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
+    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world) {
+        if (!this.performsSpawnLogic(world)) {
+            return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
+        }
+        // Tickets and chunk futures must be requested from the server thread
+        return CompletableFuture.supplyAsync(() -> {
+            this.logPreparingSpawn(world);
+            return this.awaitSpawnChunks(world, this.addSpawnTicket(world));
+        }, this.server).thenCompose(ready -> ready).thenApplyAsync(v -> {
+            this.finishSpawnChunks(world);
+            return world; // Chunks are NOT generated yet BUT will be when the future returns
+        }, this.server);
     }
 
     private Optional<ResourceKey> worldTypeKey(final DimensionType type) {
         return Optional.ofNullable(SpongeCommon.vanillaRegistry(Registries.DIMENSION_TYPE).getKey(type)).map(ResourceKey.class::cast);
     }
 
-    private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel world) {
+    private boolean performsSpawnLogic(final ServerLevel world) {
+        return Level.OVERWORLD.equals(world.dimension()) || ((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic();
+    }
 
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-//        serverChunkProvider.getLightEngine().setTaskPerBatch(500); was 5 in 1.19.4 , final 1000 in 1.20
-
-        final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
-
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
-        final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
-                Task.builder().plugin(Launch.instance().platformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
-                                        this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
-        return generationFuture.thenApply(v -> {
-            this.updateForcedChunks(world, serverChunkProvider);
-//            serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-            // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-            if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-                serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-            }
-            return world;
-        });
+    private void logPreparingSpawn(final ServerLevel world) {
+        MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
+                this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
     }
 
-    private void loadSpawnChunks(final ServerLevel world) {
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ChunkProgressListener chunkStatusListener = ((ServerLevelBridge) world).bridge$getChunkStatusListener();
-        chunkStatusListener.updateSpawnPos(chunkPos);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-//        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos());
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+    /**
+     * Prepares the spawn regions of all given worlds at the same time, blocking
+     * the server thread until every one of them is generated.
+     */
+    private void loadSpawnChunks(final Collection<ServerLevel> worlds) {
+        final Map<ServerLevel, CompletableFuture<Void>> preparing = new LinkedHashMap<>();
+        for (final ServerLevel world : worlds) {
+            if (!this.performsSpawnLogic(world)) {
+                continue;
+            }
+            this.logPreparingSpawn(world);
+            ((ServerLevelBridge) world).bridge$getChunkStatusListener().updateSpawnPos(new ChunkPos(world.getSharedSpawnPos()));
+            preparing.put(world, this.awaitSpawnChunks(world, this.addSpawnTicket(world)));
+        }
+        if (preparing.isEmpty()) {
+            return;
+        }
 
-        while (serverChunkProvider.getTickingGenerated() != 441) {
+        final CompletableFuture<Void> ready = CompletableFuture.allOf(preparing.values().toArray(CompletableFuture<?>[]::new));
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos());
+        while (!ready.isDone()) {
             ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
             ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
         }
@@ -989,17 +945,61 @@ private void loadSpawnChunks(final ServerLevel world) {
         ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
         ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
 
-        this.updateForcedChunks(world, serverChunkProvider);
+        for (final ServerLevel world : preparing.keySet()) {
+            this.finishSpawnChunks(world);
+            ((ServerLevelBridge) world).bridge$getChunkStatusListener().stop();
+        }
+    }
 
-        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        chunkStatusListener.stop();
-//        serverChunkProvider.getLightEngine().setTaskPerBatch(5);
+    private int addSpawnTicket(final ServerLevel world) {
+        final int radius = Math.max(0, SpongeGameConfigs.getForWorld(world).get().world.spawnChunkRadius);
+        if (radius > 0) {
+            world.getChunkSource().addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(world.getSharedSpawnPos()), radius,
+                    world.dimension().location());
+        }
+        this.spawnTicketRadii.put(world.dimension(), radius);
+        return radius;
+    }
+
+    private void removeSpawnTicket(final ServerLevel world) {
+        final int radius = this.spawnTicketRadii.removeInt(world.dimension());
+        if (radius > 0) {
+            world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(world.getSharedSpawnPos()), radius,
+                    world.dimension().location());
+        }
+    }
+
+    /**
+     * Requests every chunk inside the spawn ticket, returning a future that
+     * completes once all of them reached {@link ChunkStatus#FULL}.
+     */
+    private CompletableFuture<Void> awaitSpawnChunks(final ServerLevel world, final int radius) {
+        if (radius <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final ChunkPos center = new ChunkPos(world.getSharedSpawnPos());
+        final ServerChunkCache serverChunkProvider = world.getChunkSource();
+        // Only the chunks one short of the ticket radius get promoted to ticking
+        final int extent = radius - 1;
+        final CompletableFuture<?>[] chunks = new CompletableFuture<?>[(extent * 2 + 1) * (extent * 2 + 1)];
+        int i = 0;
+        for (int x = -extent; x <= extent; x++) {
+            for (int z = -extent; z <= extent; z++) {
+                chunks[i++] = serverChunkProvider.getChunkFuture(center.x + x, center.z + z, ChunkStatus.FULL, true);
+            }
+        }
+        return CompletableFuture.allOf(chunks);
+    }
+
+    private void finishSpawnChunks(final ServerLevel world) {
+        this.updateForcedChunks(world, world.getChunkSource());
 
         // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
         if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-            serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+            this.removeSpawnTicket(world);
         }
+        MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
+                this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
     }
 
     private void updateForcedChunks(final ServerLevel world, final ServerChunkCache serverChunkProvider) {
@@ -0,0 +1,254 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.util.file.DeleteFileVisitor;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Copies and moves world directories on a small, bounded pool of I/O threads.
+ *
+ * <p>Files are copied in parallel using {@link FileChannel#transferTo}, which
+ * lets the operating system copy (or clone, where the file system supports
+ * it) the data without passing it through the heap. Region files are never
+ * hard linked, as the server writes to them in place.</p>
+ */
+final class WorldFileTransfer {
+
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    /**
+     * The most bytes transferred in one call, bounding how long cancelling
+     * takes to be noticed on large region files.
+     */
+    private static final long BLOCK_SIZE = 8L * 1024 * 1024;
+
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(WorldFileTransfer.THREADS, WorldFileTransfer.THREADS,
+            30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-World-Transfer-%d")
+            .build());
+
+    static {
+        WorldFileTransfer.EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Copies the source directory into the target directory.
+     *
+     * @param source The directory to copy
+     * @param target The directory to copy into
+     * @param directoryFilter Tests which sub directories of the source are copied
+     * @param fileFilter Tests which files are copied
+     * @param transfer The transfer to report progress to and check for cancellation
+     * @return A future completing once every file was copied, or once every
+     *     started copy has stopped if any of them failed or was cancelled
+     */
+    static CompletableFuture<Void> copy(final Path source, final Path target, final Predicate<Path> directoryFilter,
+            final Predicate<Path> fileFilter, final WorldTransferFuture transfer) {
+        return CompletableFuture.supplyAsync(() -> WorldFileTransfer.plan(source, target, directoryFilter, fileFilter, transfer), WorldFileTransfer.EXECUTOR)
+                .thenCompose(files -> {
+                    final CompletableFuture<?>[] copies = new CompletableFuture<?>[files.size()];
+                    for (int i = 0; i < copies.length; i++) {
+                        final PlannedFile file = files.get(i);
+                        copies[i] = CompletableFuture.runAsync(() -> WorldFileTransfer.copyFile(file, transfer), WorldFileTransfer.EXECUTOR);
+                    }
+                    // Only completes once all copies settled, so nothing writes to the target afterwards
+                    return CompletableFuture.allOf(copies);
+                });
+    }
+
+    /**
+     * Moves the source directory to the target directory. This is an atomic
+     * rename when both are on the same file system, otherwise the directory
+     * is copied and the source deleted afterwards. If that copy fails or is
+     * cancelled, the partial target is removed and the source kept.
+     *
+     * @param source The directory to move
+     * @param target The directory to move to
+     * @param transfer The transfer to report progress to and check for cancellation
+     * @return A future completing once the directory was moved
+     */
+    static CompletableFuture<Void> move(final Path source, final Path target, final WorldTransferFuture transfer) {
+        return CompletableFuture.supplyAsync(() -> WorldFileTransfer.rename(source, target, transfer), WorldFileTransfer.EXECUTOR)
+                .thenCompose(renamed -> {
+                    if (renamed) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    final CompletableFuture<Void> copy = WorldFileTransfer.copy(source, target, dir -> true, file -> true, transfer);
+                    return copy
+                            .whenComplete((ignored, throwable) -> {
+                                if (throwable != null) {
+                                    WorldFileTransfer.discard(target, copy);
+                                }
+                            })
+                            .thenRunAsync(() -> WorldFileTransfer.delete(source), WorldFileTransfer.EXECUTOR);
+                });
+    }
+
+    /**
+     * Deletes the given directory in the background once the transfer
+     * writing to it has settled, logging any failure.
+     *
+     * @param directory The directory to delete
+     * @param transfer The future of the transfer writing to the directory,
+     *     as returned by {@link #copy}
+     */
+    static void discard(final Path directory, final CompletableFuture<?> transfer) {
+        transfer.handleAsync((ignored, throwable) -> {
+            try {
+                WorldFileTransfer.delete(directory);
+            } catch (final CompletionException e) {
+                SpongeCommon.logger().warn("Failed to delete the incomplete world directory '{}'", directory, e.getCause());
+            }
+            return null;
+        }, WorldFileTransfer.EXECUTOR);
+    }
+
+    static Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static List<PlannedFile> plan(final Path source, final Path target, final Predicate<Path> directoryFilter,
+            final Predicate<Path> fileFilter, final WorldTransferFuture transfer) {
+        final List<PlannedFile> files = new ArrayList<>();
+        final long[] bytes = new long[1];
+        try {
+            Files.walkFileTree(source, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                    WorldFileTransfer.checkCancelled(transfer);
+                    if (!dir.equals(source) && !directoryFilter.test(dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    Files.createDirectories(target.resolve(source.relativize(dir)));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (fileFilter.test(file)) {
+                        files.add(new PlannedFile(file, target.resolve(source.relativize(file)), attrs.lastModifiedTime()));
+                        bytes[0] += attrs.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+        transfer.addPlanned(files.size(), bytes[0]);
+        return files;
+    }
+
+    private static void copyFile(final PlannedFile file, final WorldTransferFuture transfer) {
+        WorldFileTransfer.checkCancelled(transfer);
+        try (final FileChannel in = FileChannel.open(file.source, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(file.target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                WorldFileTransfer.checkCancelled(transfer);
+                final long transferred = in.transferTo(position, Math.min(WorldFileTransfer.BLOCK_SIZE, size - position), out);
+                if (transferred <= 0) {
+                    throw new IOException("The file '" + file.source + "' was truncated while copying");
+                }
+                position += transferred;
+                transfer.addTransferred(transferred);
+            }
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+        try {
+            Files.setLastModifiedTime(file.target, file.lastModified);
+        } catch (final IOException ignore) {
+        }
+        transfer.fileTransferred();
+    }
+
+    private static boolean rename(final Path source, final Path target, final WorldTransferFuture transfer) {
+        WorldFileTransfer.checkCancelled(transfer);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            // A different file store, fall back to copying
+            return false;
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+        transfer.addPlanned(1, 0);
+        transfer.fileTransferred();
+        return true;
+    }
+
+    private static void delete(final Path directory) {
+        if (Files.notExists(directory)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void checkCancelled(final WorldTransferFuture transfer) {
+        if (transfer.isCancelled()) {
+            throw new CancellationException();
+        }
+    }
+
+    private record PlannedFile(Path source, Path target, FileTime lastModified) {
+    }
+
+    private WorldFileTransfer() {
+    }
+}
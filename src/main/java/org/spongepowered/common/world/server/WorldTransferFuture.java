@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The future returned by {@link SpongeWorldManager#copyWorld} and
+ * {@link SpongeWorldManager#moveWorld}, reporting the progress of the
+ * underlying file transfer.
+ *
+ * <p>{@link #cancel(boolean) Cancelling} the future stops the transfer as soon
+ * as the files currently being written reach their next block, after which
+ * any partially written copy is removed again.</p>
+ *
+ * <p>A loaded world is saved on the server thread before its files are
+ * copied, and does not save again until the copy completed. Chunks unloaded
+ * in the meantime may still be written to its region files.</p>
+ */
+public final class WorldTransferFuture extends CompletableFuture<Boolean> {
+
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong transferredBytes = new AtomicLong();
+    private final AtomicInteger totalFiles = new AtomicInteger();
+    private final AtomicInteger transferredFiles = new AtomicInteger();
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a listener notified from the transfer threads whenever a file
+     * finished transferring.
+     *
+     * @param listener The listener
+     * @return This future, for chaining
+     */
+    public WorldTransferFuture onProgress(final ProgressListener listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    public long totalBytes() {
+        return this.totalBytes.get();
+    }
+
+    public long transferredBytes() {
+        return this.transferredBytes.get();
+    }
+
+    public int totalFiles() {
+        return this.totalFiles.get();
+    }
+
+    public int transferredFiles() {
+        return this.transferredFiles.get();
+    }
+
+    /**
+     * Gets the fraction of bytes transferred so far, between 0 and 1.
+     *
+     * @return The progress
+     */
+    public double progress() {
+        final long total = this.totalBytes.get();
+        if (total == 0) {
+            return this.isDone() ? 1 : 0;
+        }
+        return Math.min(1, (double) this.transferredBytes.get() / total);
+    }
+
+    void addPlanned(final int files, final long bytes) {
+        this.totalFiles.addAndGet(files);
+        this.totalBytes.addAndGet(bytes);
+    }
+
+    void addTransferred(final long bytes) {
+        this.transferredBytes.addAndGet(bytes);
+    }
+
+    void fileTransferred() {
+        this.transferredFiles.incrementAndGet();
+        for (final ProgressListener listener : this.listeners) {
+            listener.onProgress(this);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        void onProgress(WorldTransferFuture transfer);
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.cause.entity.SpawnType;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeCollector;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.launch.Launch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Applies a {@link SpongeVolumeStream} in slices, one per tick, each slice
+ * limited by an element count and/or a time budget.
+ *
+ * <p>The stream is read a window at a time into per chunk buckets, keyed by
+ * the target position, and each bucket is applied as soon as its chunk is
+ * ready. Consecutive elements targeting the same chunk share a bucket, so
+ * streams that already run chunk by chunk, like the ones over worlds, are
+ * applied a chunk at a time, and only the window is ever held in memory no
+ * matter how large the stream is. When the target is a world, the chunks of
+ * the buckets in the window are held by a ticket and loaded asynchronously
+ * so applying never has to wait on a synchronous chunk load.</p>
+ */
+final class BudgetedVolumeApplication<V extends Volume, T, W extends MutableVolume, R> implements Consumer<ScheduledTask> {
+
+    private static final TicketType<ChunkPos> VOLUME_APPLICATION = TicketType.create("sponge_volume_application",
+        Comparator.comparingLong(ChunkPos::toLong));
+    // How many chunks may be waiting to be applied, and so loaded ahead of time
+    static final int PRELOAD_WINDOW = 32;
+    // How many elements may be read ahead of being applied
+    private static final int MAX_PENDING_ELEMENTS = 1 << 16;
+
+    private final SpongeVolumeStream<V, T> stream;
+    private final Iterator<VolumeElement<V, T>> iterator;
+    private final VolumeCollector<W, T, R> collector;
+    private final int elementsPerTick;
+    private final long nanosPerTick;
+    private final @Nullable SpawnType spawnType;
+    private final @Nullable ServerChunkCache chunkSource;
+    private final VolumeApplicationFuture future = new VolumeApplicationFuture();
+
+    private final ArrayDeque<Bucket<VolumeElement<W, T>>> buckets = new ArrayDeque<>();
+    // Chunks held by a ticket, with the number of buckets in the window targeting them
+    private final Long2IntOpenHashMap tickets = new Long2IntOpenHashMap();
+    private final Long2ObjectOpenHashMap<CompletableFuture<?>> loading = new Long2ObjectOpenHashMap<>();
+    // Read while the window was full, goes into the next bucket
+    private @Nullable VolumeElement<W, T> stashed;
+    private boolean collecting = true;
+    private int pending;
+    private long collected;
+    private long applied;
+
+    BudgetedVolumeApplication(final SpongeVolumeStream<V, T> stream, final Iterator<VolumeElement<V, T>> iterator,
+        final VolumeCollector<W, T, R> collector, final int elementsPerTick, final long nanosPerTick,
+        final @Nullable SpawnType spawnType
+    ) {
+        this.stream = stream;
+        this.iterator = iterator;
+        this.collector = collector;
+        this.elementsPerTick = elementsPerTick;
+        this.nanosPerTick = nanosPerTick;
+        this.spawnType = spawnType;
+        final W target = collector.target().get();
+        this.chunkSource = target instanceof ServerLevel ? ((ServerLevel) target).getChunkSource() : null;
+    }
+
+    VolumeApplicationFuture start() {
+        Sponge.server().scheduler().submit(Task.builder()
+            .interval(Ticks.single())
+            .plugin(Launch.instance().commonPlugin())
+            .execute(this)
+            .build());
+        return this.future;
+    }
+
+    VolumeApplicationFuture future() {
+        return this.future;
+    }
+
+    @Override
+    public void accept(final ScheduledTask task) {
+        if (this.future.isDone()) {
+            // Cancelled since the last slice
+            this.finish(task);
+            return;
+        }
+        boolean finished;
+        try (final PhaseContext<@NonNull ?> context = PluginPhase.State.VOLUME_STREAM_APPLICATION
+            .createPhaseContext(PhaseTracker.SERVER)
+            .setVolumeStream(this.stream)
+            .spawnType(() -> this.spawnType)
+        ) {
+            context.buildAndSwitch();
+            finished = this.slice();
+        } catch (final Throwable t) {
+            this.future.completeExceptionally(t);
+            finished = true;
+        }
+        if (finished) {
+            this.finish(task);
+        }
+    }
+
+    /**
+     * Reads and applies as much of the stream as the budget of one tick
+     * allows, then reports the progress to the future.
+     *
+     * @return Whether the whole stream has been applied
+     */
+    boolean slice() {
+        final long collectedBefore = this.collected;
+        final long appliedBefore = this.applied;
+        final long deadline = System.nanoTime() + this.nanosPerTick;
+        int budget = this.elementsPerTick <= 0 ? Integer.MAX_VALUE : this.elementsPerTick;
+        while (budget > 0 && this.hasTimeLeft(deadline)) {
+            final int before = budget;
+            if (this.collecting) {
+                budget = this.collect(budget, deadline);
+            }
+            budget = this.applyBuckets(budget, deadline);
+            if (budget == before) {
+                // The window is full and waiting on chunks to load
+                break;
+            }
+        }
+
+        this.future.collected(this.collected, !this.collecting);
+        this.future.applied(this.applied);
+        final boolean complete = !this.collecting && this.buckets.isEmpty();
+        if (complete) {
+            this.future.complete(this.applied);
+        }
+        if (this.collected != collectedBefore || this.applied != appliedBefore) {
+            this.future.notifyListeners();
+        }
+        return complete;
+    }
+
+    private boolean hasTimeLeft(final long deadline) {
+        return this.nanosPerTick <= 0 || System.nanoTime() < deadline;
+    }
+
+    private int collect(final int budget, final long deadline) {
+        int remaining = budget;
+        while (remaining > 0 && this.pending < BudgetedVolumeApplication.MAX_PENDING_ELEMENTS && this.hasTimeLeft(deadline)) {
+            final VolumeElement<W, T> transformed;
+            if (this.stashed != null) {
+                transformed = this.stashed;
+                this.stashed = null;
+            } else if (this.iterator.hasNext()) {
+                final VolumeElement<V, T> element = this.iterator.next();
+                transformed = this.collector.positionTransform().apply(VolumeElement.of(
+                    this.collector.target(),
+                    element::type,
+                    element.position()
+                ));
+                this.collected++;
+                remaining--;
+            } else {
+                break;
+            }
+            final long key = ChunkPos.asLong(transformed.position().floorX() >> 4, transformed.position().floorZ() >> 4);
+            @Nullable Bucket<VolumeElement<W, T>> bucket = this.buckets.peekLast();
+            if (bucket == null || bucket.chunk != key) {
+                if (this.buckets.size() == BudgetedVolumeApplication.PRELOAD_WINDOW) {
+                    // Picked up again once the head of the window has been applied
+                    this.stashed = transformed;
+                    break;
+                }
+                bucket = new Bucket<>(key);
+                this.buckets.addLast(bucket);
+                this.acquire(key);
+            }
+            bucket.elements.add(transformed);
+            this.pending++;
+        }
+        if (this.stashed == null && !this.iterator.hasNext()) {
+            this.collecting = false;
+        }
+        return remaining;
+    }
+
+    private int applyBuckets(final int budget, final long deadline) {
+        final W target = this.collector.target().get();
+        int remaining = budget;
+        while (remaining > 0 && this.hasTimeLeft(deadline) && !this.buckets.isEmpty()) {
+            final Bucket<VolumeElement<W, T>> bucket = this.buckets.peekFirst();
+            if (this.chunkSource != null) {
+                final @Nullable CompletableFuture<?> chunk = this.loading.get(bucket.chunk);
+                if (chunk == null || !chunk.isDone()) {
+                    // Still loading, pick up again next tick
+                    return remaining;
+                }
+            }
+            final List<VolumeElement<W, T>> elements = bucket.elements;
+            while (remaining > 0 && bucket.applied < elements.size() && this.hasTimeLeft(deadline)) {
+                this.collector.applicator().apply(target, elements.get(bucket.applied));
+                // Let go of applied elements straight away
+                elements.set(bucket.applied++, null);
+                this.applied++;
+                this.pending--;
+                remaining--;
+            }
+            if (bucket.applied == elements.size()) {
+                this.buckets.removeFirst();
+                this.release(bucket.chunk);
+            }
+        }
+        return remaining;
+    }
+
+    private void acquire(final long key) {
+        if (this.chunkSource == null) {
+            return;
+        }
+        if (this.tickets.addTo(key, 1) == 0) {
+            final ChunkPos pos = new ChunkPos(key);
+            this.chunkSource.addRegionTicket(BudgetedVolumeApplication.VOLUME_APPLICATION, pos, 0, pos);
+            this.loading.put(key, this.chunkSource.getChunkFuture(pos.x, pos.z, ChunkStatus.FULL, true));
+        }
+    }
+
+    private void release(final long key) {
+        if (this.chunkSource == null) {
+            return;
+        }
+        if (this.tickets.addTo(key, -1) == 1) {
+            this.tickets.remove(key);
+            this.loading.remove(key);
+            final ChunkPos pos = new ChunkPos(key);
+            this.chunkSource.removeRegionTicket(BudgetedVolumeApplication.VOLUME_APPLICATION, pos, 0, pos);
+        }
+    }
+
+    private void finish(final ScheduledTask task) {
+        task.cancel();
+        if (this.chunkSource != null) {
+            for (final long key : this.tickets.keySet().toLongArray()) {
+                final ChunkPos pos = new ChunkPos(key);
+                this.chunkSource.removeRegionTicket(BudgetedVolumeApplication.VOLUME_APPLICATION, pos, 0, pos);
+            }
+        }
+        this.tickets.clear();
+        this.loading.clear();
+        this.buckets.clear();
+        this.stashed = null;
+    }
+
+    private static final class Bucket<E> {
+
+        final long chunk;
+        final List<E> elements = new ArrayList<>();
+        int applied;
+
+        Bucket(final long chunk) {
+            this.chunk = chunk;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.api.world.volume.stream.VolumeApplicators;
+import org.spongepowered.api.world.volume.stream.VolumeCollectors;
+import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
+import org.spongepowered.common.accessor.world.level.chunk.ChunkAccessAccessor;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bulk block transfers between {@link ArrayMutableBlockBuffer}s and live
+ * worlds that work a {@link LevelChunkSection} at a time instead of going
+ * through a {@link org.spongepowered.api.world.volume.stream.VolumeStream}
+ * element per block.
+ *
+ * <p>Palettes are remapped once per transfer so each block is a plain id
+ * lookup, sections are locked once rather than per block, and heightmap
+ * and light updates are batched per chunk once all of its sections have
+ * been written. Points of interest are updated for every changed block,
+ * as they would be by {@link ServerLevel#setBlock}. Writing without events skips the phase tracker entirely,
+ * meaning no block events, neighbor notifications, or block placement and
+ * removal logic, much like {@link BlockChangeFlags#NONE} with lighting
+ * and client updates still applied.</p>
+ */
+public final class SectionBlockTransfer {
+
+    private SectionBlockTransfer() {
+    }
+
+    /**
+     * Copies the blocks in the given region of the world into a new buffer,
+     * with each world position offset by {@code -origin} in the buffer.
+     * Chunks that are not loaded are loaded or generated as needed.
+     *
+     * @param level The world to copy from
+     * @param min The minimum block position, inclusive
+     * @param max The maximum block position, inclusive
+     * @param origin The world position that becomes the buffer's origin
+     * @return The buffer holding the copied blocks
+     */
+    public static ArrayMutableBlockBuffer copyFromWorld(final ServerLevel level, final Vector3i min, final Vector3i max,
+        final Vector3i origin
+    ) {
+        Objects.requireNonNull(level, "level");
+        VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"), StreamOptions.lazily());
+        Objects.requireNonNull(origin, "origin");
+        SectionBlockTransfer.checkThread(level);
+
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(min.sub(origin), max.sub(min).add(Vector3i.ONE));
+        final Reference2IntOpenHashMap<BlockState> ids = new Reference2IntOpenHashMap<>();
+        ids.defaultReturnValue(-1);
+        final int minSectionY = Math.max(min.y(), level.getMinBuildHeight()) >> 4;
+        final int maxSectionY = Math.min(max.y(), level.getMaxBuildHeight() - 1) >> 4;
+
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                final int xStart = Math.max(min.x(), chunkX << 4);
+                final int xEnd = Math.min(max.x(), (chunkX << 4) + 15);
+                final int zStart = Math.max(min.z(), chunkZ << 4);
+                final int zEnd = Math.min(max.z(), (chunkZ << 4) + 15);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    // The buffer starts out as air, so sections of nothing but air have nothing to copy
+                    if (!section.getStates().maybeHas(state -> !state.is(Blocks.AIR))) {
+                        continue;
+                    }
+                    final int yStart = Math.max(min.y(), sectionY << 4);
+                    final int yEnd = Math.min(max.y(), (sectionY << 4) + 15);
+                    for (int x = xStart; x <= xEnd; x++) {
+                        for (int z = zStart; z <= zEnd; z++) {
+                            for (int y = yStart; y <= yEnd; y++) {
+                                final BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                                int id = ids.getInt(state);
+                                if (id == -1) {
+                                    id = buffer.assignId((org.spongepowered.api.block.BlockState) state);
+                                    ids.put(state, id);
+                                }
+                                buffer.setBlockId(x - origin.x(), y - origin.y(), z - origin.z(), id);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes the blocks of the buffer into the world, with each position of
+     * the buffer offset by {@code placement}.
+     *
+     * <p>With {@code fireEvents} the blocks are applied through the regular
+     * volume stream, as {@link BlockChangeFlags#DEFAULT_PLACEMENT}, so that
+     * events are thrown and plugins can react to the changes. Without it the
+     * chunk sections are written directly.</p>
+     *
+     * @param source The buffer to copy from
+     * @param level The world to copy to
+     * @param placement The offset applied to the buffer positions
+     * @param fireEvents Whether block change events should be thrown
+     */
+    public static void copyToWorld(final ArrayMutableBlockBuffer source, final ServerLevel level, final Vector3i placement,
+        final boolean fireEvents
+    ) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(level, "level");
+        Objects.requireNonNull(placement, "placement");
+        SectionBlockTransfer.checkThread(level);
+        if (fireEvents) {
+            source.blockStateStream(source.min(), source.max(), StreamOptions.lazily())
+                .apply(VolumeCollectors.of(
+                    (ServerWorld) level,
+                    VolumePositionTranslators.relativeTo(placement),
+                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
+                ));
+            return;
+        }
+
+        final BlockState[] states = SectionBlockTransfer.remapPalette(source.blockPalette());
+        final Vector3i min = source.min().add(placement);
+        final Vector3i max = source.max().add(placement);
+        final int minSectionY = Math.max(min.y(), level.getMinBuildHeight()) >> 4;
+        final int maxSectionY = Math.min(max.y(), level.getMaxBuildHeight() - 1) >> 4;
+        final ServerChunkCache chunkSource = level.getChunkSource();
+        final ThreadedLevelLightEngine lightEngine = chunkSource.getLightEngine();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        // Per chunk bookkeeping, reused between chunks
+        final int[] topChanged = new int[256];
+        final LongArrayList lightChecks = new LongArrayList();
+        final LongArrayList blockEntityChanges = new LongArrayList();
+
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                final int xStart = Math.max(min.x(), chunkX << 4);
+                final int xEnd = Math.min(max.x(), (chunkX << 4) + 15);
+                final int zStart = Math.max(min.z(), chunkZ << 4);
+                final int zEnd = Math.min(max.z(), (chunkZ << 4) + 15);
+                Arrays.fill(topChanged, Integer.MIN_VALUE);
+                lightChecks.clear();
+                blockEntityChanges.clear();
+                boolean changed = false;
+
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    final int yStart = Math.max(min.y(), sectionY << 4);
+                    final int yEnd = Math.min(max.y(), (sectionY << 4) + 15);
+                    final boolean wasEmpty = section.hasOnlyAir();
+                    section.acquire();
+                    try {
+                        for (int x = xStart; x <= xEnd; x++) {
+                            for (int z = zStart; z <= zEnd; z++) {
+                                for (int y = yStart; y <= yEnd; y++) {
+                                    final BlockState state = states[source.blockId(x - placement.x(), y - placement.y(), z - placement.z())];
+                                    final BlockState old = section.setBlockState(x & 15, y & 15, z & 15, state, false);
+                                    if (old == state) {
+                                        continue;
+                                    }
+                                    changed = true;
+                                    pos.set(x, y, z);
+                                    chunkSource.blockChanged(pos);
+                                    final int column = (z & 15) << 4 | x & 15;
+                                    if (y > topChanged[column]) {
+                                        topChanged[column] = y;
+                                    }
+                                    if (state.getLightBlock(chunk, pos) != old.getLightBlock(chunk, pos)
+                                        || state.getLightEmission() != old.getLightEmission()
+                                        || state.useShapeForLightOcclusion()
+                                        || old.useShapeForLightOcclusion()) {
+                                        lightChecks.add(pos.asLong());
+                                    }
+                                    if (old.hasBlockEntity() || state.hasBlockEntity()) {
+                                        blockEntityChanges.add(pos.asLong());
+                                    }
+                                    // Keeps points of interest (beds, workstations, portals...) in sync,
+                                    // the updates themselves are queued to run after this transfer
+                                    level.onBlockStateChange(pos, old, state);
+                                }
+                            }
+                        }
+                    } finally {
+                        section.release();
+                    }
+                    final boolean isEmpty = section.hasOnlyAir();
+                    if (wasEmpty != isEmpty) {
+                        lightEngine.updateSectionStatus(SectionPos.of(chunkX, sectionY, chunkZ), isEmpty);
+                    }
+                }
+
+                if (changed) {
+                    SectionBlockTransfer.finishChunk(chunk, lightEngine, topChanged, lightChecks, blockEntityChanges);
+                }
+            }
+        }
+    }
+
+    private static void finishChunk(final LevelChunk chunk, final ThreadedLevelLightEngine lightEngine, final int[] topChanged,
+        final LongArrayList lightChecks, final LongArrayList blockEntityChanges
+    ) {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < blockEntityChanges.size(); i++) {
+            pos.set(blockEntityChanges.getLong(i));
+            final BlockState state = chunk.getBlockState(pos);
+            final @Nullable BlockEntity existing = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+            if (existing != null && (!state.hasBlockEntity() || !existing.getType().isValid(state))) {
+                chunk.removeBlockEntity(pos);
+            }
+            if (state.hasBlockEntity()) {
+                final @Nullable BlockEntity blockEntity = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.IMMEDIATE);
+                if (blockEntity != null) {
+                    blockEntity.setBlockState(state);
+                }
+            }
+        }
+
+        // Only the highest change in a column can move a heightmap, and by now
+        // everything below it is final, so a single update per column suffices
+        final Map<Heightmap.Types, Heightmap> heightmaps = ((ChunkAccessAccessor) chunk).accessor$heightmaps();
+        for (int column = 0; column < topChanged.length; column++) {
+            final int y = topChanged[column];
+            if (y == Integer.MIN_VALUE) {
+                continue;
+            }
+            final int x = column & 15;
+            final int z = column >> 4;
+            final BlockState state = chunk.getBlockState(pos.set(chunk.getPos().getBlockX(x), y, chunk.getPos().getBlockZ(z)));
+            for (final Heightmap heightmap : heightmaps.values()) {
+                heightmap.update(x, y, z, state);
+            }
+        }
+
+        for (int i = 0; i < lightChecks.size(); i++) {
+            lightEngine.checkBlock(BlockPos.of(lightChecks.getLong(i)));
+        }
+        chunk.setUnsaved(true);
+    }
+
+    private static BlockState[] remapPalette(final Palette<org.spongepowered.api.block.BlockState, BlockType> palette) {
+        final BlockState[] states = new BlockState[palette.highestId() + 1];
+        for (int id = 0; id < states.length; id++) {
+            states[id] = palette.get(id, Sponge.game())
+                .map(state -> (BlockState) state)
+                .orElseGet(Blocks.AIR::defaultBlockState);
+        }
+        return states;
+    }
+
+    private static void checkThread(final ServerLevel level) {
+        if (!level.getServer().isSameThread()) {
+            throw new IllegalStateException("Bulk block transfers must happen on the server thread");
+        }
+    }
+}
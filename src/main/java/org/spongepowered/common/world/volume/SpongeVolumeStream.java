@@ -27,6 +27,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.api.world.volume.stream.VolumeCollector;
@@ -41,7 +42,9 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.time.Duration;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -230,6 +233,45 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
         }
     }
 
+    /**
+     * Applies this stream like {@link #apply(VolumeCollector)}, but spread out
+     * over as many ticks as needed to stay within the given budget each tick,
+     * so that large applications do not stall the server. Reading an element
+     * from this stream and applying it each count against the budget.
+     *
+     * <p>Elements are applied grouped by the chunk of their target position,
+     * and when the target is a world the chunks are loaded asynchronously
+     * ahead of being applied to. Only a bounded window of the stream is read
+     * ahead of what has been applied, so memory use does not grow with the
+     * size of the stream.</p>
+     *
+     * <p>The API has no budgeted counterpart to {@link #apply}, so this is
+     * only reachable from the implementation or by casting a stream to this
+     * class.</p>
+     *
+     * @param collector The collector to apply with
+     * @param elementsPerTick The number of elements to process per tick, or 0 for no limit
+     * @param timePerTick The time to spend per tick, or {@link Duration#ZERO} for no limit
+     * @param <W> The type of target volume
+     * @param <R> The applicator result type
+     * @return A future tracking the application, which may be cancelled
+     */
+    public <W extends MutableVolume, R> VolumeApplicationFuture applyBudgeted(final VolumeCollector<W, T, R> collector,
+        final int elementsPerTick, final Duration timePerTick
+    ) {
+        Objects.requireNonNull(collector, "collector");
+        Objects.requireNonNull(timePerTick, "timePerTick");
+        if (elementsPerTick <= 0 && timePerTick.isZero()) {
+            throw new IllegalArgumentException("Either an element or a time budget is required");
+        }
+        if (elementsPerTick < 0 || timePerTick.isNegative()) {
+            throw new IllegalArgumentException("Budgets cannot be negative");
+        }
+        final @Nullable SpawnType spawnType = PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null);
+        return new BudgetedVolumeApplication<>(this, this.stream.iterator(), collector, elementsPerTick, timePerTick.toNanos(), spawnType)
+            .start();
+    }
+
     @Override
     public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
         boolean doWork = true;
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The future returned by {@link SpongeVolumeStream#applyBudgeted}, completing
+ * with the number of elements applied once the whole stream has been
+ * applied.
+ *
+ * <p>{@link #cancel(boolean) Cancelling} the future stops the application at
+ * the start of the next tick slice, elements applied up to then stay
+ * applied.</p>
+ */
+public final class VolumeApplicationFuture extends CompletableFuture<Long> {
+
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile long collected;
+    private volatile long applied;
+    private volatile boolean collecting = true;
+
+    /**
+     * Registers a listener notified on the server thread after every tick
+     * slice that made progress.
+     *
+     * @param listener The listener
+     * @return This future, for chaining
+     */
+    public VolumeApplicationFuture onProgress(final ProgressListener listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Gets whether the stream is still being read, during which
+     * {@link #total()} keeps growing.
+     *
+     * @return Whether the stream is still being read
+     */
+    public boolean collecting() {
+        return this.collecting;
+    }
+
+    public long total() {
+        return this.collected;
+    }
+
+    public long applied() {
+        return this.applied;
+    }
+
+    /**
+     * Gets the fraction of elements applied so far, between 0 and 1. While
+     * the stream is still being read this is always 0.
+     *
+     * @return The progress
+     */
+    public double progress() {
+        if (this.isDone()) {
+            return 1;
+        }
+        if (this.collecting || this.collected == 0) {
+            return 0;
+        }
+        return Math.min(1, (double) this.applied / this.collected);
+    }
+
+    void collected(final long collected, final boolean finished) {
+        this.collected = collected;
+        this.collecting = !finished;
+    }
+
+    void applied(final long applied) {
+        this.applied = applied;
+    }
+
+    void notifyListeners() {
+        for (final ProgressListener listener : this.listeners) {
+            listener.onProgress(this);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        void onProgress(VolumeApplicationFuture application);
+    }
+}
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -52,6 +53,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.SectionBlockTransfer;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
@@ -80,8 +82,22 @@ public class SpongeArchetypeVolume extends AbstractVolumeBuffer implements Arche
     private final ObjectArrayMutableEntityArchetypeBuffer entities;
 
     public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final RegistryHolder registries) {
+        this(start, size, registries, new ArrayMutableBlockBuffer(start, size));
+    }
+
+    /**
+     * Creates a volume around an already populated block buffer, the buffer
+     * is used as is and must cover the same region as this volume.
+     *
+     * @param start The start block position
+     * @param size The block size
+     * @param registries The registries to create the biome palette from
+     * @param blocks The block buffer
+     */
+    public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final RegistryHolder registries,
+        final ArrayMutableBlockBuffer blocks
+    ) {
         super(start, size);
-        final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(start, size);
         this.blocks = blocks;
         this.blockEntities = new MutableMapBlockEntityArchetypeBuffer(blocks);
         this.biomes = new ByteArrayMutableBiomeBuffer(
@@ -264,6 +280,26 @@ public ArchetypeVolume transform(final Transformation transformation) {
     @Override
     public void applyToWorld(
         final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext
+    ) {
+        this.applyToWorld(target, placement, spawnContext, true);
+    }
+
+    /**
+     * Applies this volume to the world like {@link #applyToWorld(ServerWorld, Vector3i, Supplier)},
+     * optionally writing the blocks straight into the chunk sections through
+     * {@link SectionBlockTransfer} without throwing block change events.
+     *
+     * <p>The API only offers the overload that throws events, skipping them
+     * is reserved for impl callers that own the change, such as resetting
+     * a region the server itself manages.</p>
+     *
+     * @param target The world to apply to
+     * @param placement The offset applied to the volume positions
+     * @param spawnContext The spawn type used for entities
+     * @param fireBlockEvents Whether block changes go through the phase tracker
+     */
+    public void applyToWorld(
+        final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext, final boolean fireBlockEvents
     ) {
         Objects.requireNonNull(target, "Target world cannot be null");
         Objects.requireNonNull(placement, "Target position cannot be null");
@@ -272,12 +308,16 @@ public void applyToWorld(
             .spawnType(spawnContext)
             .source(this)) {
             context.buildAndSwitch();
-            this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
-                .apply(VolumeCollectors.of(
-                    target,
-                    VolumePositionTranslators.relativeTo(placement),
-                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
-                ));
+            if (fireBlockEvents) {
+                this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
+                    .apply(VolumeCollectors.of(
+                        target,
+                        VolumePositionTranslators.relativeTo(placement),
+                        VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
+                    ));
+            } else {
+                SectionBlockTransfer.copyToWorld(this.blocks, (ServerLevel) target, placement, false);
+            }
 
             this.biomeStream(this.min(), this.max(), StreamOptions.lazily())
                 .apply(VolumeCollectors.of(
@@ -109,7 +109,7 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
      * @param start The start block position
      * @param size The block size
      */
-    ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final BlockBackingData blocks, final Vector3i start, final Vector3i size) {
+    public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final BlockBackingData blocks, final Vector3i start, final Vector3i size) {
         super(start, size);
         this.palette = palette.asMutable(Sponge.game());
         this.data = blocks;
@@ -125,6 +125,20 @@ public Palette<BlockState, BlockType> blockPalette() {
     @Override
     public boolean setBlock(final int x, final int y, final int z, final BlockState block) {
         this.checkRange(x, y, z);
+        final int id = this.assignId(block);
+        this.data.set(this.getIndex(x, y, z), id);
+        return true;
+    }
+
+    /**
+     * Assigns the state an id in this buffer's palette, growing the backing
+     * data if the id would not fit. Bulk copies resolve each distinct state
+     * once through here and then work with {@link #setBlockId} directly.
+     *
+     * @param block The block state
+     * @return The palette id of the state
+     */
+    public int assignId(final BlockState block) {
         final int id = this.palette.orAssign(block);
         if (id > this.data.getMax()) {
 
@@ -136,8 +150,25 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
             }
             this.data = newdata;
         }
+        return id;
+    }
+
+    /**
+     * Sets the palette id at a position, the id must have been obtained from
+     * {@link #assignId(BlockState)}.
+     */
+    public void setBlockId(final int x, final int y, final int z, final int id) {
+        this.checkRange(x, y, z);
         this.data.set(this.getIndex(x, y, z), id);
-        return true;
+    }
+
+    /**
+     * Gets the raw palette id at a position, resolving it through
+     * {@link #blockPalette()} is left to the caller.
+     */
+    public int blockId(final int x, final int y, final int z) {
+        this.checkRange(x, y, z);
+        return this.data.get(this.getIndex(x, y, z));
     }
 
     @Override
@@ -36,6 +36,7 @@
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
@@ -98,6 +99,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.level.chunk.SpongeEmptyChunk;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.volume.SectionBlockTransfer;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
@@ -409,14 +411,19 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
         final Vector3i volMax = max.max(min);
         final Vector3i size = volMax.sub(rawVolMin).add(1, 1, 1);
         final Vector3i relativeMin = rawVolMin.sub(Objects.requireNonNull(origin, "origin"));
-        final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(relativeMin, size, this);
-
-        this.blockStateStream(min, max, StreamOptions.lazily())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyBlocks()
-            ));
+        final SpongeArchetypeVolume volume;
+        if ((Object) this instanceof ServerLevel level && level.getServer().isSameThread()) {
+            // Blocks are copied a section at a time, the rest is sparse enough for the streams
+            volume = new SpongeArchetypeVolume(relativeMin, size, this, SectionBlockTransfer.copyFromWorld(level, rawVolMin, volMax, origin));
+        } else {
+            volume = new SpongeArchetypeVolume(relativeMin, size, this);
+            this.blockStateStream(min, max, StreamOptions.lazily())
+                .apply(VolumeCollectors.of(
+                    volume,
+                    VolumePositionTranslators.offset(origin),
+                    VolumeApplicators.applyBlocks()
+                ));
+        }
 
         this.blockEntityStream(min, max, StreamOptions.lazily())
             .map((world, blockEntity, x, y, z) -> blockEntity.get().createArchetype())
@@ -81,6 +81,7 @@
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.registry.RegistryHolderLogic;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
 
 import java.io.IOException;
@@ -201,6 +202,12 @@ public String getServerModName() {
         }
     }
 
+    @Inject(method = "stopServer", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;saveAllChunks(ZZZ)Z"))
+    private void impl$flushUserData(final CallbackInfo ci) {
+        // The offline users were saved with the players, make sure they hit the disk
+        this.userManager().flush();
+    }
+
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
         for (final Map.Entry<ResourceKey<Level>, ServerLevel> entry : this.levels.entrySet()) {
@@ -387,6 +394,12 @@ public void setDifficulty(final Difficulty difficulty, final boolean forceDiffic
         this.shadow$getPackRepository().reload();
     }
 
+    @Inject(method = "reloadResources", at = @At(value = "RETURN"), cancellable = true)
+    private void impl$advanceRegistryGeneration(final Collection<String> datapacksToLoad, final CallbackInfoReturnable<CompletableFuture<Void>> cir) {
+        // Only once the reloaded registries are in place, anything resolved before then may be stale
+        cir.setReturnValue(cir.getReturnValue().whenComplete((ignored, throwable) -> RegistryHolderLogic.advanceGeneration()));
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName();
@@ -51,6 +51,7 @@
 import org.spongepowered.common.data.provider.nbt.NBTDataType;
 import org.spongepowered.common.data.provider.nbt.NBTDataTypes;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Mixin(net.minecraft.world.item.ItemStack.class)
@@ -80,6 +81,14 @@ public abstract class ItemStackMixin implements SpongeDataHolderBridge, DataComp
         return DataHolderProcessor.bridge$offer(this, key, value);
     }
 
+    @Override
+    public DataTransactionResult bridge$offerAll(final Map<? extends Key<?>, ?> values) {
+        if (this.shadow$isEmpty()) {
+            return DataTransactionResult.failNoData();
+        }
+        return DataHolderProcessor.bridge$offerAll(this, values);
+    }
+
     @Override
     public <E> DataTransactionResult bridge$remove(final Key<@NonNull ? extends Value<E>> key) {
         if (this.shadow$isEmpty()) {
@@ -403,6 +403,13 @@ public String toString() {
         return result;
     }
 
+    @Override
+    public DataTransactionResult bridge$offerAll(final Map<? extends Key<?>, ?> values) {
+        final DataTransactionResult result = DataHolderProcessor.bridge$offerAll(this, values);
+        this.unsaved = true;
+        return result;
+    }
+
     @Override
     public <E> DataTransactionResult bridge$remove(final Key<@NonNull ? extends Value<E>> key) {
         final DataTransactionResult result = DataHolderProcessor.bridge$remove(this, key);
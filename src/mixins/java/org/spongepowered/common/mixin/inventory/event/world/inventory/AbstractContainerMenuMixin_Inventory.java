@@ -63,6 +63,8 @@
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.SpongeInventoryMenu;
+import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
 import java.util.ArrayList;
@@ -271,6 +273,7 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
             final ItemStack oldStack = this.lastSlots.get(i);
             if (!ItemStack.matches(oldStack, newStack)) {
                 changes.add(i);
+                SlotChangeJournal.mark((Fabric) this, i);
             }
         }
 
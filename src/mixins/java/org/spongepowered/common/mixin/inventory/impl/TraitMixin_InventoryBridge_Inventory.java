@@ -36,16 +36,22 @@
 import net.minecraft.world.inventory.ResultContainer;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.inventory.TransientCraftingContainer;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BaseContainerBlockEntity;
 import net.minecraft.world.level.block.entity.CampfireBlockEntity;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.bridge.world.inventory.LensGeneratorBridge;
 import org.spongepowered.common.entity.player.SpongeUserInventory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.CustomInventory;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
@@ -73,6 +79,7 @@ public abstract class TraitMixin_InventoryBridge_Inventory implements InventoryA
 
     @Nullable private SlotLensProvider impl$provider;
     @Nullable private Lens impl$lens;
+    @Nullable private SlotChangeJournal impl$journal;
 
     @Override
     public Fabric inventoryAdapter$getFabric() {
@@ -103,4 +110,50 @@ public abstract class TraitMixin_InventoryBridge_Inventory implements InventoryA
         return this.impl$lens;
     }
 
+    @Override
+    public @Nullable SlotChangeJournal inventoryAdapter$getSlotChangeJournal() {
+        return this.impl$journal;
+    }
+
+    @Override
+    public SlotChangeJournal inventoryAdapter$enableSlotChangeJournal() {
+        if (this.impl$journal == null) {
+            this.impl$journal = new SlotChangeJournal(this.inventoryAdapter$getFabric().fabric$getSize());
+        }
+        return this.impl$journal;
+    }
+
+    // Direct container writes, e.g. from hoppers, droppers or Inventory#add placing a new stack.
+    // Targets that do not declare these methods are covered by the injection into the superclass they
+    // inherit them from. Overrides in subclasses that are not targets here and do not call super, such as
+    // AbstractFurnaceBlockEntity#setItem, need their own injection, see AbstractFurnaceBlockEntityMixin_Journal_Inventory.
+
+    @Inject(method = "setItem(ILnet/minecraft/world/item/ItemStack;)V", at = @At("RETURN"))
+    private void impl$journalSetItem(final int index, final ItemStack stack, final CallbackInfo ci) {
+        if (this.impl$journal != null) {
+            this.impl$journal.mark(index);
+        }
+    }
+
+    @Inject(method = "removeItem(II)Lnet/minecraft/world/item/ItemStack;", at = @At("RETURN"))
+    private void impl$journalRemoveItem(final int index, final int count, final CallbackInfoReturnable<ItemStack> cir) {
+        if (this.impl$journal != null) {
+            this.impl$journal.mark(index);
+        }
+    }
+
+    @Inject(method = "removeItemNoUpdate(I)Lnet/minecraft/world/item/ItemStack;", at = @At("RETURN"))
+    private void impl$journalRemoveItemNoUpdate(final int index, final CallbackInfoReturnable<ItemStack> cir) {
+        if (this.impl$journal != null) {
+            this.impl$journal.mark(index);
+        }
+    }
+
+    @Inject(method = "clearContent()V", at = @At("RETURN"))
+    private void impl$journalClearContent(final CallbackInfo ci) {
+        if (this.impl$journal != null) {
+            this.impl$journal.markAll();
+        }
+    }
+
 }
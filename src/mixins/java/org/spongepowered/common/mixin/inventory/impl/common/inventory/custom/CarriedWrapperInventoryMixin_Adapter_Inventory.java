@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.inventory.impl.common.inventory.custom;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Slot;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -31,6 +32,7 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.CarriedWrapperInventory;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 
@@ -58,6 +60,16 @@ public abstract class CarriedWrapperInventoryMixin_Adapter_Inventory implements
         return this.shadow$getWrapped().bridge$getAdapter().inventoryAdapter$getFabric();
     }
 
+    @Override
+    public @Nullable SlotChangeJournal inventoryAdapter$getSlotChangeJournal() {
+        return this.shadow$getWrapped().bridge$getAdapter().inventoryAdapter$getSlotChangeJournal();
+    }
+
+    @Override
+    public SlotChangeJournal inventoryAdapter$enableSlotChangeJournal() {
+        return this.shadow$getWrapped().bridge$getAdapter().inventoryAdapter$enableSlotChangeJournal();
+    }
+
     @Override
     public Optional<Slot> inventoryAdapter$getSlot(int ordinal) {
         return this.shadow$getWrapped().bridge$getAdapter().inventoryAdapter$getSlot(ordinal);
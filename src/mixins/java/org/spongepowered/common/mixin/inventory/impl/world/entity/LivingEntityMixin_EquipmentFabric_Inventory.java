@@ -33,6 +33,7 @@
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.bridge.world.inventory.LensGeneratorBridge;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.comp.EquipmentInventoryLens;
@@ -70,6 +71,7 @@ public abstract class LivingEntityMixin_EquipmentFabric_Inventory implements Fab
     @Override
     public void fabric$setStack(int index, ItemStack stack) {
         this.shadow$setItemSlot(EquipmentSlot.values()[index], stack);
+        SlotChangeJournal.mark(this, index);
     }
 
     @Override
@@ -87,6 +89,7 @@ public abstract class LivingEntityMixin_EquipmentFabric_Inventory implements Fab
         for (EquipmentSlot slot : EquipmentSlot.values()) {
             this.shadow$setItemSlot(slot, ItemStack.EMPTY);
         }
+        SlotChangeJournal.markAll(this);
     }
 
     @Override
@@ -41,6 +41,7 @@
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
@@ -110,6 +111,7 @@ public abstract class AbstractContainerMenuMixin_Adapter_Inventory implements In
 
     @Nullable private SlotLensProvider impl$provider;
     @Nullable private Lens impl$lens;
+    @Nullable private SlotChangeJournal impl$journal;
 
     @Override
     public Fabric inventoryAdapter$getFabric() {
@@ -132,4 +134,17 @@ public abstract class AbstractContainerMenuMixin_Adapter_Inventory implements In
         return this.impl$lens;
     }
 
+    @Override
+    public @Nullable SlotChangeJournal inventoryAdapter$getSlotChangeJournal() {
+        return this.impl$journal;
+    }
+
+    @Override
+    public SlotChangeJournal inventoryAdapter$enableSlotChangeJournal() {
+        if (this.impl$journal == null) {
+            this.impl$journal = new SlotChangeJournal(this.inventoryAdapter$getFabric().fabric$getSize());
+        }
+        return this.impl$journal;
+    }
+
 }
@@ -35,6 +35,7 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 
 import java.util.Collection;
 import java.util.Set;
@@ -78,6 +79,7 @@ public abstract class AbstractContainerMenuMixin_Fabric_Inventory implements Fab
     @Override
     public void fabric$setStack(final int index, final ItemStack stack) {
         this.shadow$getSlot(index).set(stack);
+        SlotChangeJournal.mark(this, index);
     }
 
     @Override
@@ -96,6 +98,7 @@ public abstract class AbstractContainerMenuMixin_Fabric_Inventory implements Fab
         for (final Slot slot : this.slots) {
             slot.set(ItemStack.EMPTY);
         }
+        SlotChangeJournal.markAll(this);
     }
 
     @Override
@@ -30,8 +30,12 @@
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -39,11 +43,20 @@
 @Mixin(Slot.class)
 public abstract class SlotMixin_Fabric_Inventory implements Fabric, InventoryBridge {
     @Shadow @Final public Container container;
+    @Shadow @Final private int slot;
     @Shadow public abstract ItemStack shadow$getItem();
     @Shadow public abstract void shadow$set(ItemStack stack);
     @Shadow public abstract int shadow$getMaxStackSize();
     @Shadow public abstract void shadow$setChanged();
 
+    @Inject(method = "set", at = @At("RETURN"))
+    private void impl$journalSlotChange(final ItemStack stack, final CallbackInfo ci) {
+        SlotChangeJournal.mark(this, 0);
+        if (this.container != null) {
+            SlotChangeJournal.mark((Fabric) this.container, this.slot);
+        }
+    }
+
     @Override
     public Collection<InventoryBridge> fabric$allInventories() {
         return Collections.emptyList();
@@ -32,6 +32,7 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.bridge.world.inventory.InventoryBridge;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.SlotChangeJournal;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -64,6 +65,7 @@ public abstract class CampfireBlockEntityMixin_Fabric_Inventory implements Fabri
     @Override
     public void fabric$setStack(int index, ItemStack stack) {
         this.items.set(index, stack);
+        SlotChangeJournal.mark(this, index);
     }
 
     @Override
@@ -79,6 +81,7 @@ public abstract class CampfireBlockEntityMixin_Fabric_Inventory implements Fabri
     @Override
     public void fabric$clear() {
         this.shadow$clearContent();
+        SlotChangeJournal.markAll(this);
     }
 
     @Override
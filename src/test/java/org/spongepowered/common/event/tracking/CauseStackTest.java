@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.EventContextKey;
+
+import java.util.List;
+import java.util.Optional;
+
+class CauseStackTest {
+
+    private PhaseTracker tracker;
+
+    @SuppressWarnings("unchecked")
+    private static EventContextKey<String> key() {
+        return Mockito.mock(EventContextKey.class);
+    }
+
+    @BeforeEach
+    void setupTracker() throws IllegalAccessException {
+        this.tracker = new PhaseTracker();
+        this.tracker.setThread(Thread.currentThread());
+    }
+
+    @Test
+    void poppingFrameRestoresCause() {
+        this.tracker.pushCause("root");
+        final Cause before = this.tracker.currentCause();
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            frame.pushCause("first");
+            frame.pushCause("second");
+            final Cause inside = this.tracker.currentCause();
+            assertEquals(List.of("second", "first", "root"), inside.all());
+            assertSame(inside, this.tracker.currentCause());
+        }
+        assertSame(before, this.tracker.currentCause());
+        assertEquals(List.of("root"), this.tracker.currentCause().all());
+    }
+
+    @Test
+    void poppingCauseRestoresParentCause() {
+        this.tracker.pushCause("root");
+        final Cause before = this.tracker.currentCause();
+        this.tracker.pushCause("pushed");
+        assertEquals("pushed", this.tracker.currentCause().root());
+        assertEquals("pushed", this.tracker.popCause());
+        assertSame(before, this.tracker.currentCause());
+    }
+
+    @Test
+    void duplicateCauseIsPoppedWithoutChangingStack() {
+        this.tracker.pushCause("root");
+        final Cause before = this.tracker.currentCause();
+        this.tracker.pushCause("root");
+        assertSame(before, this.tracker.currentCause());
+        assertEquals("root", this.tracker.popCause());
+        assertSame(before, this.tracker.currentCause());
+        assertEquals(List.of("root"), this.tracker.currentCause().all());
+    }
+
+    @Test
+    void poppingFrameRestoresContext() {
+        final EventContextKey<String> replaced = CauseStackTest.key();
+        final EventContextKey<String> added = CauseStackTest.key();
+        this.tracker.pushCause("root");
+        this.tracker.addContext(replaced, "outer");
+        final EventContext before = this.tracker.currentContext();
+        final Cause causeBefore = this.tracker.currentCause();
+
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            frame.addContext(replaced, "inner");
+            frame.addContext(added, "added");
+            final EventContext inside = this.tracker.currentContext();
+            assertNotSame(before, inside);
+            assertEquals(Optional.of("inner"), inside.get(replaced));
+            assertEquals(Optional.of("added"), inside.get(added));
+            assertSame(inside, this.tracker.currentCause().context());
+        }
+
+        assertEquals(Optional.of("outer"), this.tracker.context(replaced));
+        assertFalse(this.tracker.context(added).isPresent());
+        // The context is back to the state the frame started with, so the
+        // snapshot taken before it is shared again
+        assertSame(before, this.tracker.currentContext());
+        assertSame(causeBefore, this.tracker.currentCause());
+    }
+
+    @Test
+    void poppingFrameRestoresRemovedContext() {
+        final EventContextKey<String> key = CauseStackTest.key();
+        this.tracker.pushCause("root");
+        this.tracker.addContext(key, "value");
+        final EventContext before = this.tracker.currentContext();
+
+        try (final CauseStackManager.StackFrame frame = this.tracker.pushCauseFrame()) {
+            assertEquals(Optional.of("value"), frame.removeContext(key));
+            assertFalse(this.tracker.currentContext().get(key).isPresent());
+        }
+
+        assertSame(before, this.tracker.currentContext());
+        assertEquals(Optional.of("value"), this.tracker.currentContext().get(key));
+    }
+
+    @Test
+    void contextChangeOutsideFrameStartsNewSnapshot() {
+        final EventContextKey<String> key = CauseStackTest.key();
+        this.tracker.pushCause("root");
+        final EventContext empty = this.tracker.currentContext();
+        this.tracker.addContext(key, "value");
+        final EventContext added = this.tracker.currentContext();
+        assertNotSame(empty, added);
+        assertEquals(Optional.of("value"), added.get(key));
+        assertSame(added, this.tracker.currentCause().context());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.fabric;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.inventory.adapter.InventoryAdapter;
+
+import java.util.BitSet;
+
+public class SlotChangeJournalTest {
+
+    @Test
+    public void testMarkedSlotsAreReportedOnce() {
+        final SlotChangeJournal journal = new SlotChangeJournal(9);
+        final long start = journal.version();
+        Assertions.assertTrue(journal.changedSince(start).isEmpty());
+
+        journal.mark(2);
+        journal.mark(5);
+        final long afterMarks = journal.version();
+        Assertions.assertTrue(afterMarks > start);
+        Assertions.assertEquals(SlotChangeJournalTest.bits(2, 5), journal.changedSince(start));
+        Assertions.assertTrue(journal.changedSince(start, 2));
+        Assertions.assertFalse(journal.changedSince(start, 3));
+
+        // Nothing changed since the consumer last synchronized
+        Assertions.assertTrue(journal.changedSince(afterMarks).isEmpty());
+
+        journal.mark(5);
+        Assertions.assertEquals(SlotChangeJournalTest.bits(5), journal.changedSince(afterMarks));
+    }
+
+    @Test
+    public void testMarkAllAndOutOfRangeIndices() {
+        final SlotChangeJournal journal = new SlotChangeJournal(3);
+        final long start = journal.version();
+
+        journal.mark(-1);
+        Assertions.assertEquals(start, journal.version());
+        Assertions.assertFalse(journal.changedSince(start, -1));
+
+        journal.markAll();
+        Assertions.assertEquals(SlotChangeJournalTest.bits(0, 1, 2), journal.changedSince(start));
+
+        // Slots past the initial size grow the journal instead of being dropped
+        final long afterAll = journal.version();
+        journal.mark(7);
+        Assertions.assertEquals(SlotChangeJournalTest.bits(7), journal.changedSince(afterAll));
+        Assertions.assertFalse(journal.changedSince(afterAll, 8));
+    }
+
+    @Test
+    public void testOffsetFabricViewsBackingJournal() {
+        final SlotChangeJournal backing = new SlotChangeJournal(9);
+        final Fabric fabric = SlotChangeJournalTest.journaledFabric(9, backing);
+        final SlotChangeJournal view = SlotChangeJournal.enable(OffsetFabric.of(fabric, 4));
+        final long start = view.version();
+
+        backing.mark(1);
+        backing.mark(6);
+        Assertions.assertEquals(SlotChangeJournalTest.bits(2), view.changedSince(start));
+
+        view.mark(0);
+        Assertions.assertTrue(backing.changedSince(start, 4));
+    }
+
+    @Test
+    public void testCompoundFabricViewsEveryPart() {
+        final SlotChangeJournal first = new SlotChangeJournal(3);
+        final SlotChangeJournal second = new SlotChangeJournal(2);
+        final CompoundFabric compound = new CompoundFabric(
+            SlotChangeJournalTest.journaledFabric(3, first),
+            SlotChangeJournalTest.journaledFabric(2, second));
+        final SlotChangeJournal view = SlotChangeJournal.enable(compound);
+        final long start = view.version();
+
+        first.mark(1);
+        second.mark(0);
+        Assertions.assertEquals(SlotChangeJournalTest.bits(1, 3), view.changedSince(start));
+        Assertions.assertEquals(second.version(), view.version());
+
+        final long afterMarks = view.version();
+        view.mark(4);
+        Assertions.assertTrue(second.changedSince(afterMarks, 1));
+        Assertions.assertFalse(first.changedSince(afterMarks).cardinality() > 0);
+
+        view.markAll();
+        Assertions.assertEquals(SlotChangeJournalTest.bits(0, 1, 2), first.changedSince(afterMarks));
+    }
+
+    private static Fabric journaledFabric(final int size, final SlotChangeJournal journal) {
+        final Fabric fabric = Mockito.mock(Fabric.class, Mockito.withSettings().extraInterfaces(InventoryAdapter.class));
+        Mockito.when(fabric.fabric$getSize()).thenReturn(size);
+        Mockito.when(((InventoryAdapter) fabric).inventoryAdapter$enableSlotChangeJournal()).thenReturn(journal);
+        Mockito.when(((InventoryAdapter) fabric).inventoryAdapter$getSlotChangeJournal()).thenReturn(journal);
+        return fabric;
+    }
+
+    private static BitSet bits(final int... indices) {
+        final BitSet bits = new BitSet();
+        for (final int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.common.test.stub.StubKey;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SpongeDefaultedRegistryReferenceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReferenceResolvesAgainAfterGenerationAdvances() {
+        final ResourceKey location = new StubKey("sponge", "rainbow");
+        final RegistryType<String> type = Mockito.mock(RegistryType.class);
+        final Registry<String> first = Mockito.mock(Registry.class);
+        final Registry<String> second = Mockito.mock(Registry.class);
+        Mockito.when(first.value(location)).thenReturn("first");
+        Mockito.when(second.value(location)).thenReturn("second");
+
+        final AtomicReference<Registry<String>> current = new AtomicReference<>(first);
+        final RegistryHolder holder = Mockito.mock(RegistryHolder.class);
+        Mockito.when(holder.registry(type)).thenAnswer(invocation -> current.get());
+
+        final SpongeDefaultedRegistryReference<String> reference =
+            new SpongeDefaultedRegistryReference<>(new SpongeRegistryKey<>(type, location), () -> holder);
+
+        Assertions.assertEquals("first", reference.get());
+        Assertions.assertEquals("first", reference.get());
+        // The second lookup is served from the memoized value
+        Mockito.verify(first, Mockito.times(1)).value(location);
+
+        // A replaced registry is not observed until the generation moves on
+        current.set(second);
+        Assertions.assertEquals("first", reference.get());
+
+        RegistryHolderLogic.advanceGeneration();
+        Assertions.assertEquals("second", reference.get());
+        Assertions.assertEquals("second", reference.get());
+        Mockito.verify(second, Mockito.times(1)).value(location);
+    }
+}
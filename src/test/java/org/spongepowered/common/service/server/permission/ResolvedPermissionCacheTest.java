@@ -0,0 +1,190 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.permission;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.service.permission.NodeTree;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.service.permission.SubjectReference;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.test.stub.StubGame;
+import org.spongepowered.common.test.stub.StubModule;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class ResolvedPermissionCacheTest {
+
+    private static final String PERMISSION = "generate.rainbow";
+
+    private static final Injector guice = Guice.createInjector(new StubModule());
+
+    @SuppressWarnings("unused")
+    static class DummyInjectable {
+        @Inject Game game;
+    }
+
+    @BeforeAll
+    static void setup() {
+        ResolvedPermissionCacheTest.guice.injectMembers(new DummyInjectable());
+        final StubGame game = (StubGame) Sponge.game();
+        game.factoryProvider().registerFactory(NodeTree.Factory.class, new SpongeNodeTree.FactoryImpl());
+    }
+
+    @Test
+    public void testParentMutationInvalidatesChild() {
+        final TestSubject parent = new TestSubject("parent", MemorySubjectData::new);
+        final TestSubject child = new TestSubject("child", MemorySubjectData::new);
+        child.data.addParent(SubjectData.GLOBAL_CONTEXT, parent.reference);
+        parent.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.TRUE);
+
+        Assertions.assertEquals(Tristate.TRUE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        Assertions.assertEquals(Tristate.TRUE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        // The second lookup is served from the cache
+        Mockito.verify(parent.reference, Mockito.times(1)).resolve();
+
+        parent.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.FALSE);
+        Assertions.assertEquals(Tristate.FALSE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+
+        child.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.TRUE);
+        Assertions.assertEquals(Tristate.TRUE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+    }
+
+    @Test
+    public void testUnrelatedMutationKeepsValues() {
+        final TestSubject parent = new TestSubject("parent", MemorySubjectData::new);
+        final TestSubject child = new TestSubject("child", MemorySubjectData::new);
+        final TestSubject unrelated = new TestSubject("unrelated", MemorySubjectData::new);
+        child.data.addParent(SubjectData.GLOBAL_CONTEXT, parent.reference);
+        parent.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.TRUE);
+
+        Assertions.assertEquals(Tristate.TRUE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        unrelated.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.FALSE);
+        Assertions.assertEquals(Tristate.TRUE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        // Neither lookup after the first resolves the parent again
+        Mockito.verify(parent.reference, Mockito.times(1)).resolve();
+    }
+
+    @Test
+    public void testSingleParentChangeInvalidatesChild() {
+        final TestSubject granting = new TestSubject("granting", MemorySubjectData::new);
+        granting.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.TRUE);
+        final TestSubject denying = new TestSubject("denying", MemorySubjectData::new);
+        denying.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.FALSE);
+        final TestSubject child = new TestSubject("child", SingleParentMemorySubjectData::new);
+        final SingleParentMemorySubjectData data = (SingleParentMemorySubjectData) child.data;
+
+        Assertions.assertEquals(Tristate.UNDEFINED, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        data.setParent(granting.reference);
+        Assertions.assertEquals(Tristate.TRUE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        data.setParent(denying.reference);
+        Assertions.assertEquals(Tristate.FALSE, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        data.setParent(null);
+        Assertions.assertEquals(Tristate.UNDEFINED, child.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+    }
+
+    @Test
+    public void testComputedOpLevelParentChange() {
+        final TestSubject[] opLevels = new TestSubject[3];
+        for (int level = 0; level < opLevels.length; level++) {
+            opLevels[level] = new TestSubject("op_" + level, MemorySubjectData::new);
+        }
+        opLevels[2].data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.TRUE);
+        final int[] opLevel = {0};
+        // Like UserSubject, the parent follows the op list rather than anything stored in the data
+        final TestSubject user = new TestSubject("user", subject -> new SingleParentMemorySubjectData(subject) {
+            @Override
+            public SubjectReference parent() {
+                return opLevels[opLevel[0]].reference;
+            }
+        });
+
+        Assertions.assertEquals(Tristate.UNDEFINED, user.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        opLevel[0] = 2;
+        Assertions.assertEquals(Tristate.TRUE, user.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+        opLevel[0] = 1;
+        Assertions.assertEquals(Tristate.UNDEFINED, user.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+    }
+
+    @Test
+    public void testDeepParentChain() {
+        final TestSubject[] chain = new TestSubject[8];
+        for (int i = 0; i < chain.length; i++) {
+            chain[i] = new TestSubject("chain_" + i, MemorySubjectData::new);
+            if (i > 0) {
+                chain[i - 1].data.addParent(SubjectData.GLOBAL_CONTEXT, chain[i].reference);
+            }
+        }
+        final TestSubject root = chain[chain.length - 1];
+        final TestSubject middle = chain[chain.length / 2];
+        final TestSubject leaf = chain[0];
+        root.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.TRUE);
+
+        Assertions.assertEquals(Tristate.TRUE, leaf.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+
+        middle.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.FALSE);
+        Assertions.assertEquals(Tristate.FALSE, leaf.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+
+        middle.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.UNDEFINED);
+        root.data.setPermission(SubjectData.GLOBAL_CONTEXT, ResolvedPermissionCacheTest.PERMISSION, Tristate.FALSE);
+        Assertions.assertEquals(Tristate.FALSE, leaf.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+
+        // Cutting the chain just below the root must not leave the leaf with a stale answer
+        chain[chain.length - 2].data.clearParents();
+        Assertions.assertEquals(Tristate.UNDEFINED, leaf.permissionValue(ResolvedPermissionCacheTest.PERMISSION, (Cause) null));
+    }
+
+    static final class TestSubject {
+
+        final SpongeBaseSubject subject;
+        final MemorySubjectData data;
+        final SubjectReference reference;
+
+        TestSubject(final String identifier, final Function<SpongeBaseSubject, MemorySubjectData> dataFactory) {
+            this.subject = Mockito.mock(SpongeBaseSubject.class, Mockito.withSettings().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+            this.data = dataFactory.apply(this.subject);
+            Mockito.doReturn(this.data).when(this.subject).transientSubjectData();
+            Mockito.doReturn(this.data).when(this.subject).subjectData();
+            this.reference = Mockito.mock(SubjectReference.class);
+            Mockito.when(this.reference.collectionIdentifier()).thenReturn("test");
+            Mockito.when(this.reference.subjectIdentifier()).thenReturn(identifier);
+            Mockito.when(this.reference.resolve()).thenAnswer(invocation -> CompletableFuture.completedFuture(this.subject));
+        }
+
+        Tristate permissionValue(final String permission, final @Nullable Cause cause) {
+            return this.subject.permissionValue(permission, cause);
+        }
+    }
+}
@@ -25,22 +25,49 @@
 package org.spongepowered.common.test;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.event.manager.AnnotatedEventListener;
+import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.util.DefinableClassLoader;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 
 public class TestEventManager extends SpongeEventManager {
 
     private final @Nullable DefinableClassLoader loader;
+    private final AnnotatedEventListener.@Nullable Factory listenerFactory;
 
     public TestEventManager(final DefinableClassLoader loader) {
         this.loader = loader;
+        this.listenerFactory = null;
+    }
+
+    public TestEventManager(final AnnotatedEventListener.Factory listenerFactory) {
+        this.loader = null;
+        this.listenerFactory = listenerFactory;
     }
 
     public TestEventManager() {
         this.loader = null;
+        this.listenerFactory = null;
+    }
+
+    /**
+     * Gets the baked handlers the given event would be posted to.
+     *
+     * @param event The event
+     * @return The handlers, in posting order
+     */
+    public List<RegisteredListener<?>> handlers(final Event event) {
+        return this.getHandlerCache(event).getListeners();
+    }
+
+    @Override
+    protected AnnotatedEventListener.Factory createListenerFactory() {
+        return this.listenerFactory == null ? super.createListenerFactory() : this.listenerFactory;
     }
 
     @Override
@@ -24,15 +24,22 @@
  */
 package org.spongepowered.common.test.event;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
@@ -45,32 +52,115 @@
 import org.spongepowered.api.event.lifecycle.ProvideServiceEvent;
 import org.spongepowered.api.event.lifecycle.StoppedGameEvent;
 import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.common.event.filter.FilterGenerator;
+import org.spongepowered.common.event.manager.AnnotatedEventListener;
+import org.spongepowered.common.event.manager.ClassEventListenerFactory;
+import org.spongepowered.common.event.manager.InlinedEventListenerFactory;
+import org.spongepowered.common.event.manager.RegisteredListener;
 import org.spongepowered.common.test.TestEventManager;
 import org.spongepowered.common.test.UnitTestExtension;
 import org.spongepowered.common.util.DefinableClassLoader;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
-@Disabled
-@ExtendWith(UnitTestExtension.class)
 public class EventManagerRegistrationTest {
 
+    public static Stream<Arguments> listenerFactories() {
+        return Stream.of(
+            Arguments.of(new ClassEventListenerFactory(FilterGenerator::create)),
+            Arguments.of(new InlinedEventListenerFactory())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("listenerFactories")
+    public void registrationRebakesKnownEventTypes(final AnnotatedEventListener.Factory factory) throws Exception {
+        final TestEventManager eventManager = new TestEventManager(factory);
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final StoppedGameEvent event = EventManagerRegistrationTest.stoppedEvent("marker");
+        // Assigns the event type its id and bakes its handlers before anything listens to it
+        Assertions.assertTrue(eventManager.handlers(event).isEmpty());
+
+        final Recording listener = new Recording();
+        eventManager.registerListeners(plugin, listener, MethodHandles.lookup());
+        EventManagerRegistrationTest.handle(eventManager, event);
+        Assertions.assertEquals(List.of("first", "stopped", "marker", "last"), listener.calls);
+
+        eventManager.unregisterListeners(listener);
+        Assertions.assertTrue(eventManager.handlers(event).isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("listenerFactories")
+    public void unregisteringPluginRebakesOnlyItsHandlers(final AnnotatedEventListener.Factory factory) throws Exception {
+        final TestEventManager eventManager = new TestEventManager(factory);
+        final PluginContainer removed = Mockito.mock(PluginContainer.class);
+        final PluginContainer kept = Mockito.mock(PluginContainer.class);
+        final StoppedGameEvent event = EventManagerRegistrationTest.stoppedEvent("marker");
+        final Recording removedListener = new Recording();
+        final Recording keptListener = new Recording();
+        eventManager.registerListeners(removed, removedListener, MethodHandles.lookup());
+        eventManager.registerListeners(kept, keptListener, MethodHandles.lookup());
+        Assertions.assertEquals(8, eventManager.handlers(event).size());
+
+        eventManager.unregisterListeners(removed);
+        EventManagerRegistrationTest.handle(eventManager, event);
+        Assertions.assertTrue(removedListener.calls.isEmpty());
+        Assertions.assertEquals(List.of("first", "stopped", "marker", "last"), keptListener.calls);
+    }
+
+    @ParameterizedTest
+    @MethodSource("listenerFactories")
+    public void filtersRejectMismatchedCauses(final AnnotatedEventListener.Factory factory) throws Exception {
+        final TestEventManager eventManager = new TestEventManager(factory);
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final Recording listener = new Recording();
+        eventManager.registerListeners(plugin, listener, MethodHandles.lookup());
+
+        // The root cause is not a String, so the @First filter skips that listener
+        EventManagerRegistrationTest.handle(eventManager, EventManagerRegistrationTest.stoppedEvent(1));
+        Assertions.assertEquals(List.of("first", "stopped", "last"), listener.calls);
+    }
+
+    private static StoppedGameEvent stoppedEvent(final Object cause) {
+        final StoppedGameEvent event = Mockito.mock(StoppedGameEvent.class);
+        Mockito.when(event.cause()).thenReturn(Cause.of(EventContext.empty(), cause));
+        return event;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void handle(final TestEventManager eventManager, final Event event) throws Exception {
+        for (final RegisteredListener handler : eventManager.handlers(event)) {
+            handler.handle(event);
+        }
+    }
+
+    @Disabled
     @Test
+    @ExtendWith(UnitTestExtension.class)
     public void successRegistration() {
         final EventManager eventManager = new TestEventManager();
         final PluginContainer mock = Mockito.mock(PluginContainer.class);
         eventManager.registerListeners(mock, new Dummy());
     }
 
+    @Disabled
     @Test
+    @ExtendWith(UnitTestExtension.class)
     public void wildcardCanRegister() {
         final EventManager eventManager = new TestEventManager();
         final PluginContainer mock = Mockito.mock(PluginContainer.class);
         eventManager.registerListeners(mock, new Wildcard());
     }
 
+    @Disabled
     @Test
+    @ExtendWith(UnitTestExtension.class)
     public void successfulRegistrationWithAsmDefinedClass() throws
         NoSuchMethodException,
         InvocationTargetException,
@@ -161,6 +251,31 @@ public void onFirst(
         }
     }
 
+    public static class Recording {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Listener(order = Order.LAST)
+        public void onLast(final StoppedGameEvent event) {
+            this.calls.add("last");
+        }
+
+        @Listener
+        public void onStopped(final StoppedGameEvent event) {
+            this.calls.add("stopped");
+        }
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(final StoppedGameEvent event) {
+            this.calls.add("first");
+        }
+
+        @Listener(order = Order.LATE)
+        public void onMarker(final StoppedGameEvent event, final @First String marker) {
+            this.calls.add(marker);
+        }
+    }
+
     static final class Wildcard {
 
         @Listener
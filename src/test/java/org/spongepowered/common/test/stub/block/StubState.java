@@ -64,7 +64,7 @@ public StubState(final BlockType mocked, final ResourceKey key, final Vector3i d
 
     @Override
     public BlockType type() {
-        return this.type();
+        return this.mocked;
     }
 
     @Override
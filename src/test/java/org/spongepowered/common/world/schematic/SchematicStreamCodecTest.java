@@ -0,0 +1,431 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.ShortTag;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.block.entity.BlockEntityType;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryKey;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.registry.SpongeFactoryProvider;
+import org.spongepowered.common.registry.SpongeRegistryKey;
+import org.spongepowered.common.registry.SpongeRegistryType;
+import org.spongepowered.common.test.stub.StubGame;
+import org.spongepowered.common.test.stub.StubKey;
+import org.spongepowered.common.test.stub.StubModule;
+import org.spongepowered.common.test.stub.block.StubBlock;
+import org.spongepowered.common.test.stub.registry.StubRegistryFactory;
+import org.spongepowered.common.test.stub.registry.StubbedRegistry;
+import org.spongepowered.common.test.stub.world.schematic.StubBlockStatePaletteType;
+import org.spongepowered.common.test.stub.world.schematic.StubPaletteType;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public final class SchematicStreamCodecTest {
+
+    private static final int DATA_VERSION = 3839;
+
+    private static final Injector guice = Guice.createInjector(new StubModule());
+
+    private static StubbedRegistry<BlockType> blockTypes;
+    private static StubbedRegistry<Biome> biomes;
+
+    @SuppressWarnings("unused")
+    static class DummyInjectable {
+        @Inject Game game;
+    }
+
+    @BeforeAll
+    static void setup() {
+        SchematicStreamCodecTest.guice.injectMembers(new DummyInjectable());
+        final StubGame game = (StubGame) Sponge.game();
+
+        final SpongeFactoryProvider factoryProvider = game.factoryProvider();
+        final StubbedRegistry<BlockType> blockTypes = new StubbedRegistry<>(
+            () -> RegistryTypes.BLOCK_TYPE,
+            StubBlock::new
+        );
+        final StubbedRegistry<Biome> biomes = new StubbedRegistry<>(
+            () -> RegistryTypes.BIOME,
+            (key) -> Mockito.mock(Biome.class)
+        );
+        final StubbedRegistry<PaletteType<?, ?>> paletteTypeRegistry = new StubbedRegistry<>(
+            () -> RegistryTypes.PALETTE_TYPE,
+            (key) -> new StubPaletteType<>()
+        );
+        factoryProvider.registerFactory(RegistryType.Factory.class, new SpongeRegistryType.FactoryImpl());
+        factoryProvider.registerFactory(RegistryKey.Factory.class, new SpongeRegistryKey.FactoryImpl());
+        factoryProvider.registerFactory(PaletteReference.Factory.class, new SpongePaletteReferenceFactory());
+        factoryProvider.registerFactory(ResourceKey.Factory.class, new StubRegistryFactory());
+        game.register(blockTypes);
+        game.register(biomes);
+        game.register(paletteTypeRegistry);
+        paletteTypeRegistry.register(new StubKey("sponge", "block_state_palette"), new StubBlockStatePaletteType());
+
+        SchematicStreamCodecTest.blockTypes = blockTypes;
+        SchematicStreamCodecTest.biomes = biomes;
+    }
+
+    @Test
+    void testRoundTripOfCurrentVersion() throws IOException {
+        final Vector3i min = new Vector3i(-2, 0, 3);
+        // More states than fit a single byte varint
+        final Vector3i size = new Vector3i(6, 4, 6);
+        final int area = size.x() * size.y() * size.z();
+        final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(
+            new MutableBimapPalette<>(PaletteTypes.BLOCK_STATE_PALETTE.get(), SchematicStreamCodecTest.blockTypes),
+            new BlockBackingData.PackedBackingData(area, area),
+            min,
+            size
+        );
+        final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(min, size, Sponge.game(), blocks);
+        final Biome plains = SchematicStreamCodecTest.biomes.createEntry("minecraft", "plains");
+        final Biome desert = SchematicStreamCodecTest.biomes.createEntry("minecraft", "desert");
+        final Vector3i max = volume.max();
+        for (int x = min.x(); x <= max.x(); x++) {
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    volume.setBlock(x, y, z, SchematicStreamCodecTest.block(x, y, z));
+                    volume.setBiome(x, y, z, (x & 1) == 0 ? plains : desert);
+                }
+            }
+        }
+        final Vector3i chestPos = min.add(1, 2, 3);
+        final DataContainer chestData = DataContainer.createNew();
+        chestData.set(DataQuery.of("Lock"), "key");
+        volume.addBlockEntity(chestPos.x(), chestPos.y(), chestPos.z(),
+            SchematicStreamCodecTest.blockEntity(new StubKey("minecraft", "chest"), chestData));
+        final Schematic schematic = new SpongeSchematicBuilder().volume(volume).build();
+
+        final TestEnvironment environment = new TestEnvironment();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SchematicStreamCodec.write(schematic, bytes, environment);
+        final Schematic read = SchematicStreamCodec.read(new ByteArrayInputStream(bytes.toByteArray()), environment);
+
+        Assertions.assertNull(environment.translated, "A current schematic should not need the translator");
+        Assertions.assertEquals(min, read.min());
+        Assertions.assertEquals(size, read.size());
+        for (int x = min.x(); x <= max.x(); x++) {
+            for (int y = min.y(); y <= max.y(); y++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    Assertions.assertEquals(schematic.block(x, y, z), read.block(x, y, z), "block at " + x + ", " + y + ", " + z);
+                    Assertions.assertSame(schematic.biome(x, y, z), read.biome(x, y, z), "biome at " + x + ", " + y + ", " + z);
+                }
+            }
+        }
+        Assertions.assertEquals(1, environment.blockEntities.size());
+        final DataView chest = environment.blockEntities.get(chestPos.sub(min));
+        Assertions.assertNotNull(chest, "The block entity should be read at its position relative to the offset");
+        Assertions.assertEquals("minecraft:chest", chest.getString(Constants.Sponge.Schematic.BLOCKENTITY_ID).get());
+        Assertions.assertEquals("key", chest.getString(Constants.Sponge.Schematic.BLOCKENTITY_DATA.then("Lock")).get());
+    }
+
+    @Test
+    void testHeaderAfterBulkSections() throws IOException {
+        final CompoundTag palette = new CompoundTag();
+        palette.putInt("minecraft:stone", 0);
+        palette.putInt("minecraft:dirt", 1);
+        final CompoundTag chest = new CompoundTag();
+        chest.put("Pos", new IntArrayTag(new int[]{1, 0, 0}));
+        chest.putString("Id", "minecraft:chest");
+        chest.put("Data", new CompoundTag());
+        final ListTag blockEntities = new ListTag();
+        blockEntities.add(chest);
+        final CompoundTag blocks = new CompoundTag();
+        blocks.put("Palette", palette);
+        blocks.put("Data", new ByteArrayTag(new byte[]{0, 1, 1, 0}));
+        blocks.put("BlockEntities", blockEntities);
+
+        final CompoundTag pig = new CompoundTag();
+        final ListTag pigPos = new ListTag();
+        pigPos.add(DoubleTag.valueOf(0.5));
+        pigPos.add(DoubleTag.valueOf(1.0));
+        pigPos.add(DoubleTag.valueOf(1.5));
+        pig.put("Pos", pigPos);
+        pig.putString("Id", "minecraft:pig");
+        final ListTag entities = new ListTag();
+        entities.add(pig);
+
+        final byte[] file = SchematicStreamCodecTest.wrapped(out -> {
+            SchematicStreamCodecTest.writeTag(out, "Blocks", blocks);
+            SchematicStreamCodecTest.writeTag(out, "Entities", entities);
+            SchematicStreamCodecTest.writeTag(out, "Version", IntTag.valueOf(Constants.Sponge.Schematic.CURRENT_VERSION));
+            SchematicStreamCodecTest.writeTag(out, "DataVersion", IntTag.valueOf(SchematicStreamCodecTest.DATA_VERSION));
+            SchematicStreamCodecTest.writeTag(out, "Width", ShortTag.valueOf((short) 2));
+            SchematicStreamCodecTest.writeTag(out, "Height", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Length", ShortTag.valueOf((short) 2));
+            SchematicStreamCodecTest.writeTag(out, "Offset", new IntArrayTag(new int[]{10, 20, 30}));
+        });
+
+        final TestEnvironment environment = new TestEnvironment();
+        final Schematic read = SchematicStreamCodec.read(new ByteArrayInputStream(file), environment);
+
+        Assertions.assertNull(environment.translated, "A current schematic should not need the translator");
+        Assertions.assertEquals(new Vector3i(10, 20, 30), read.min());
+        Assertions.assertEquals(new Vector3i(2, 1, 2), read.size());
+        final BlockState stone = SchematicStreamCodecTest.blockTypes.createEntry("minecraft", "stone").defaultState();
+        final BlockState dirt = SchematicStreamCodecTest.blockTypes.createEntry("minecraft", "dirt").defaultState();
+        // Schematic order is x first, then z, then y
+        Assertions.assertEquals(stone, read.block(10, 20, 30));
+        Assertions.assertEquals(dirt, read.block(11, 20, 30));
+        Assertions.assertEquals(dirt, read.block(10, 20, 31));
+        Assertions.assertEquals(stone, read.block(11, 20, 31));
+        Assertions.assertEquals(1, environment.blockEntities.size());
+        Assertions.assertTrue(environment.blockEntities.containsKey(new Vector3i(1, 0, 0)));
+        Assertions.assertEquals(1, environment.entities.size());
+        Assertions.assertEquals("minecraft:pig", environment.entities.get(0).getString(Constants.Sponge.Schematic.ENTITIES_ID).get());
+    }
+
+    @Test
+    void testOlderVersionFallsBackToTranslator() throws IOException {
+        final CompoundTag palette = new CompoundTag();
+        palette.putInt("minecraft:stone", 0);
+        final byte[] file = SchematicStreamCodecTest.gzipped(out -> {
+            out.writeByte(Tag.TAG_COMPOUND);
+            out.writeUTF("");
+            SchematicStreamCodecTest.writeTag(out, "Version", IntTag.valueOf(2));
+            SchematicStreamCodecTest.writeTag(out, "DataVersion", IntTag.valueOf(SchematicStreamCodecTest.DATA_VERSION));
+            SchematicStreamCodecTest.writeTag(out, "Width", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Height", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Length", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Palette", palette);
+            SchematicStreamCodecTest.writeTag(out, "BlockData", new ByteArrayTag(new byte[]{0}));
+            out.writeByte(Tag.TAG_END);
+        });
+
+        final TestEnvironment environment = new TestEnvironment();
+        final Schematic read = SchematicStreamCodec.read(new ByteArrayInputStream(file), environment);
+
+        Assertions.assertSame(environment.translatedSchematic, read);
+        Assertions.assertNotNull(environment.translated);
+        Assertions.assertEquals(2, environment.translated.getInt(Constants.Sponge.Schematic.VERSION).get());
+        Assertions.assertTrue(environment.translated.contains(Constants.Sponge.Schematic.Versions.V2_BLOCK_DATA),
+            "The bulk data has to be kept for the translator");
+        Assertions.assertTrue(environment.translated.contains(Constants.Sponge.Schematic.Versions.V2_BLOCK_PALETTE));
+    }
+
+    @Test
+    void testOutdatedDataVersionFallsBackToTranslator() throws IOException {
+        final CompoundTag palette = new CompoundTag();
+        palette.putInt("minecraft:stone", 0);
+        final CompoundTag blocks = new CompoundTag();
+        blocks.put("Palette", palette);
+        blocks.put("Data", new ByteArrayTag(new byte[]{0}));
+        final byte[] file = SchematicStreamCodecTest.wrapped(out -> {
+            SchematicStreamCodecTest.writeTag(out, "Version", IntTag.valueOf(Constants.Sponge.Schematic.CURRENT_VERSION));
+            SchematicStreamCodecTest.writeTag(out, "DataVersion", IntTag.valueOf(SchematicStreamCodecTest.DATA_VERSION - 1));
+            SchematicStreamCodecTest.writeTag(out, "Width", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Height", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Length", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Blocks", blocks);
+        });
+
+        final TestEnvironment environment = new TestEnvironment();
+        final Schematic read = SchematicStreamCodec.read(new ByteArrayInputStream(file), environment);
+
+        Assertions.assertSame(environment.translatedSchematic, read);
+        Assertions.assertNotNull(environment.translated);
+        Assertions.assertTrue(environment.translated.contains(Constants.Sponge.Schematic.BLOCK_CONTAINER.then(Constants.Sponge.Schematic.BLOCK_DATA)),
+            "The bulk data has to be kept for the translator");
+    }
+
+    @Test
+    void testBlockDataNotMatchingVolumeIsRejected() throws IOException {
+        final TestEnvironment environment = new TestEnvironment();
+        final byte[] shorter = SchematicStreamCodecTest.twoByTwo(new byte[]{0, 1, 1});
+        final InvalidDataException tooShort = Assertions.assertThrows(InvalidDataException.class,
+            () -> SchematicStreamCodec.read(new ByteArrayInputStream(shorter), environment));
+        Assertions.assertEquals("Schematic data is smaller than the schematic dimensions", tooShort.getMessage());
+
+        final byte[] longer = SchematicStreamCodecTest.twoByTwo(new byte[]{0, 1, 1, 0, 1});
+        final InvalidDataException tooLong = Assertions.assertThrows(InvalidDataException.class,
+            () -> SchematicStreamCodec.read(new ByteArrayInputStream(longer), environment));
+        Assertions.assertEquals("Schematic data is larger than the schematic dimensions", tooLong.getMessage());
+    }
+
+    private static byte[] twoByTwo(final byte[] data) throws IOException {
+        final CompoundTag palette = new CompoundTag();
+        palette.putInt("minecraft:stone", 0);
+        palette.putInt("minecraft:dirt", 1);
+        final CompoundTag blocks = new CompoundTag();
+        blocks.put("Palette", palette);
+        blocks.put("Data", new ByteArrayTag(data));
+        return SchematicStreamCodecTest.wrapped(out -> {
+            SchematicStreamCodecTest.writeTag(out, "Version", IntTag.valueOf(Constants.Sponge.Schematic.CURRENT_VERSION));
+            SchematicStreamCodecTest.writeTag(out, "DataVersion", IntTag.valueOf(SchematicStreamCodecTest.DATA_VERSION));
+            SchematicStreamCodecTest.writeTag(out, "Width", ShortTag.valueOf((short) 2));
+            SchematicStreamCodecTest.writeTag(out, "Height", ShortTag.valueOf((short) 1));
+            SchematicStreamCodecTest.writeTag(out, "Length", ShortTag.valueOf((short) 2));
+            SchematicStreamCodecTest.writeTag(out, "Blocks", blocks);
+        });
+    }
+
+    private static BlockState block(final int x, final int y, final int z) {
+        return SchematicStreamCodecTest.blockTypes.createEntry("minecraft", String.format("volumetest{%d, %d, %d}", x, y, z))
+            .defaultState();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BlockEntityArchetype blockEntity(final ResourceKey key, final DataContainer data) {
+        final BlockEntityType type = Mockito.mock(BlockEntityType.class);
+        Mockito.when(type.key(Mockito.any())).thenReturn(key);
+        final BlockEntityArchetype archetype = Mockito.mock(BlockEntityArchetype.class);
+        Mockito.when(archetype.blockEntityType()).thenReturn(type);
+        Mockito.when(archetype.blockEntityData()).thenReturn(data);
+        return archetype;
+    }
+
+    interface TagWriter {
+
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] gzipped(final TagWriter writer) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            writer.write(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] wrapped(final TagWriter writer) throws IOException {
+        return SchematicStreamCodecTest.gzipped(out -> {
+            out.writeByte(Tag.TAG_COMPOUND);
+            out.writeUTF("");
+            out.writeByte(Tag.TAG_COMPOUND);
+            out.writeUTF("Schematic");
+            writer.write(out);
+            out.writeByte(Tag.TAG_END);
+            out.writeByte(Tag.TAG_END);
+        });
+    }
+
+    private static void writeTag(final DataOutputStream out, final String name, final Tag tag) throws IOException {
+        out.writeByte(tag.getId());
+        out.writeUTF(name);
+        tag.write(out);
+    }
+
+    static final class TestEnvironment implements SchematicStreamCodec.Environment {
+
+        final Map<Vector3i, DataView> blockEntities = new HashMap<>();
+        final List<DataView> entities = new ArrayList<>();
+        final Schematic translatedSchematic = Mockito.mock(Schematic.class);
+        DataView translated;
+
+        @Override
+        public RegistryHolder registries() {
+            return Sponge.game();
+        }
+
+        @Override
+        public Registry<BlockType> blockTypes() {
+            return SchematicStreamCodecTest.blockTypes;
+        }
+
+        @Override
+        public Registry<Biome> biomes() {
+            return SchematicStreamCodecTest.biomes;
+        }
+
+        @Override
+        public int dataVersion() {
+            return SchematicStreamCodecTest.DATA_VERSION;
+        }
+
+        @Override
+        public Consumer<DataView> blockEntityReader(final Vector3i offset, final SpongeArchetypeVolume volume) {
+            return view -> {
+                final int[] pos = (int[]) view.get(Constants.Sponge.Schematic.BLOCKENTITY_POS).get();
+                this.blockEntities.put(new Vector3i(pos[0], pos[1], pos[2]), view);
+            };
+        }
+
+        @Override
+        public Optional<EntityArchetypeEntry> readEntity(final DataView entity) {
+            this.entities.add(entity);
+            return Optional.empty();
+        }
+
+        @Override
+        public Schematic translate(final DataView schematic) {
+            this.translated = schematic;
+            return this.translatedSchematic;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeApplicator;
+import org.spongepowered.api.world.volume.stream.VolumeCollector;
+import org.spongepowered.api.world.volume.stream.VolumeCollectors;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class BudgetedVolumeApplicationTest {
+
+    private static final int MAX_SLICES = 10_000;
+
+    private final Volume volume = Mockito.mock(Volume.class);
+    private final MutableVolume target = Mockito.mock(MutableVolume.class);
+    private final AtomicInteger read = new AtomicInteger();
+
+    private List<VolumeElement<Volume, String>> elements(final int count, final int spacing) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> VolumeElement.of(this.volume, "element" + i, new Vector3d(i * spacing, 0, 0)))
+            .collect(Collectors.toList());
+    }
+
+    private BudgetedVolumeApplication<Volume, String, MutableVolume, Boolean> application(
+        final List<VolumeElement<Volume, String>> elements, final VolumeApplicator<MutableVolume, String, Boolean> applicator,
+        final int elementsPerTick, final Duration timePerTick
+    ) {
+        final SpongeVolumeStream<Volume, String> stream = new SpongeVolumeStream<>(elements.stream()
+            .peek(element -> this.read.incrementAndGet()), () -> this.volume);
+        final VolumeCollector<MutableVolume, String, Boolean> collector = VolumeCollectors.of(this.target,
+            VolumePositionTranslators.identity(), applicator);
+        return new BudgetedVolumeApplication<>(stream, stream.toStream().iterator(), collector, elementsPerTick,
+            timePerTick.toNanos(), null);
+    }
+
+    private static List<String> types(final List<VolumeElement<Volume, String>> elements) {
+        return elements.stream().map(VolumeElement::type).collect(Collectors.toList());
+    }
+
+    @Test
+    void elementBudgetIsHonouredEachTick() {
+        final List<VolumeElement<Volume, String>> elements = this.elements(100, 1);
+        final List<String> applied = new ArrayList<>();
+        final BudgetedVolumeApplication<Volume, String, MutableVolume, Boolean> application = this.application(elements,
+            (volume, element) -> applied.add(element.type()), 16, Duration.ZERO);
+        final VolumeApplicationFuture future = application.future();
+
+        boolean complete = false;
+        int slices = 0;
+        while (!complete) {
+            Assertions.assertTrue(++slices < BudgetedVolumeApplicationTest.MAX_SLICES, "Application never completed");
+            final long work = future.total() + future.applied();
+            complete = application.slice();
+            final long done = future.total() + future.applied() - work;
+            // Reading an element and applying it both count against the budget
+            Assertions.assertTrue(done > 0, "No progress in slice " + slices);
+            Assertions.assertTrue(done <= 16, "Slice " + slices + " did " + done + " elements of work");
+        }
+
+        Assertions.assertEquals(BudgetedVolumeApplicationTest.types(elements), applied);
+        Assertions.assertEquals(100L, future.join());
+        Assertions.assertEquals(1.0, future.progress());
+        // 100 reads and 100 applications at 16 a tick
+        Assertions.assertEquals(13, slices);
+    }
+
+    @Test
+    void timeBudgetIsHonouredEachTick() {
+        final long costNanos = Duration.ofMillis(2).toNanos();
+        final List<VolumeElement<Volume, String>> elements = this.elements(10, 1);
+        final List<String> applied = new ArrayList<>();
+        final BudgetedVolumeApplication<Volume, String, MutableVolume, Boolean> application = this.application(elements,
+            (volume, element) -> {
+                final long end = System.nanoTime() + costNanos;
+                while (System.nanoTime() < end) {
+                    Thread.onSpinWait();
+                }
+                return applied.add(element.type());
+            }, 0, Duration.ofMillis(5));
+
+        boolean complete = false;
+        int slices = 0;
+        while (!complete) {
+            Assertions.assertTrue(++slices < BudgetedVolumeApplicationTest.MAX_SLICES, "Application never completed");
+            final int before = applied.size();
+            complete = application.slice();
+            // An element is only started while there is time left, each taking 2 of the 5ms
+            Assertions.assertTrue(applied.size() - before <= 3, "Slice " + slices + " overran its time budget");
+        }
+
+        Assertions.assertEquals(BudgetedVolumeApplicationTest.types(elements), applied);
+    }
+
+    @Test
+    void readAheadIsBoundedByChunkWindow() {
+        // One element per chunk, so every element opens a new bucket
+        final List<VolumeElement<Volume, String>> elements = this.elements(200, 16);
+        final List<String> applied = new ArrayList<>();
+        final BudgetedVolumeApplication<Volume, String, MutableVolume, Boolean> application = this.application(elements,
+            (volume, element) -> applied.add(element.type()), 16, Duration.ZERO);
+        final AtomicInteger notified = new AtomicInteger();
+        application.future().onProgress(future -> notified.incrementAndGet());
+
+        boolean complete = false;
+        int slices = 0;
+        while (!complete) {
+            Assertions.assertTrue(++slices < BudgetedVolumeApplicationTest.MAX_SLICES, "Application never completed");
+            complete = application.slice();
+            // The window, plus the element read while it was full
+            Assertions.assertTrue(this.read.get() - applied.size() <= BudgetedVolumeApplication.PRELOAD_WINDOW + 1,
+                "Read " + this.read.get() + " elements but only applied " + applied.size());
+        }
+
+        Assertions.assertEquals(BudgetedVolumeApplicationTest.types(elements), applied);
+        Assertions.assertEquals(slices, notified.get());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.common.accessor.world.level.chunk.ChunkAccessAccessor;
+import org.spongepowered.common.test.stub.StubModule;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class SectionBlockTransferTest {
+
+    private static final Injector guice = Guice.createInjector(new StubModule());
+
+    @SuppressWarnings("unused")
+    static class DummyInjectable {
+        @Inject Game game;
+    }
+
+    record Change(BlockPos pos, BlockState old, BlockState state) {
+    }
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        SectionBlockTransferTest.guice.injectMembers(new DummyInjectable());
+    }
+
+    private static BlockState state() {
+        return Mockito.mock(BlockState.class, Mockito.withSettings().extraInterfaces(org.spongepowered.api.block.BlockState.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void directWriteUpdatesPointsOfInterest() {
+        final BlockState air = SectionBlockTransferTest.state();
+        final BlockState stone = SectionBlockTransferTest.state();
+        final BlockState bed = SectionBlockTransferTest.state();
+
+        // Three blocks in a row: a bed over air, stone over stone and a bed over stone
+        final Palette<org.spongepowered.api.block.BlockState, BlockType> palette = Mockito.mock(Palette.class);
+        Mockito.when(palette.highestId()).thenReturn(1);
+        Mockito.when(palette.get(Mockito.eq(0), Mockito.any())).thenReturn(Optional.of((org.spongepowered.api.block.BlockState) bed));
+        Mockito.when(palette.get(Mockito.eq(1), Mockito.any())).thenReturn(Optional.of((org.spongepowered.api.block.BlockState) stone));
+        final int[] ids = {0, 1, 0};
+        final ArrayMutableBlockBuffer source = Mockito.mock(ArrayMutableBlockBuffer.class);
+        Mockito.when(source.min()).thenReturn(Vector3i.ZERO);
+        Mockito.when(source.max()).thenReturn(new Vector3i(2, 0, 0));
+        Mockito.when(source.blockPalette()).thenReturn(palette);
+        Mockito.when(source.blockId(Mockito.anyInt(), Mockito.eq(0), Mockito.eq(0))).thenAnswer(invocation -> ids[invocation.<Integer>getArgument(0)]);
+
+        // The section holds what is in the world, keyed by the section relative position
+        final Map<BlockPos, BlockState> blocks = new HashMap<>();
+        blocks.put(new BlockPos(5, 2, 5), stone);
+        blocks.put(new BlockPos(6, 2, 5), stone);
+        final LevelChunkSection section = Mockito.mock(LevelChunkSection.class);
+        Mockito.when(section.setBlockState(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any(), Mockito.anyBoolean()))
+            .thenAnswer(invocation -> {
+                final BlockPos pos = new BlockPos(invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1),
+                    invocation.<Integer>getArgument(2));
+                final BlockState old = blocks.put(pos, invocation.getArgument(3));
+                return old == null ? air : old;
+            });
+
+        final LevelChunk chunk = Mockito.mock(LevelChunk.class, Mockito.withSettings().extraInterfaces(ChunkAccessAccessor.class));
+        Mockito.when(chunk.getPos()).thenReturn(new ChunkPos(0, 0));
+        Mockito.when(chunk.getSectionIndexFromSectionY(0)).thenReturn(0);
+        Mockito.when(chunk.getSection(0)).thenReturn(section);
+        Mockito.when(((ChunkAccessAccessor) chunk).accessor$heightmaps()).thenReturn(Map.of());
+
+        final MinecraftServer server = Mockito.mock(MinecraftServer.class);
+        Mockito.when(server.isSameThread()).thenReturn(true);
+        final ServerChunkCache chunkSource = Mockito.mock(ServerChunkCache.class);
+        Mockito.when(chunkSource.getLightEngine()).thenReturn(Mockito.mock(ThreadedLevelLightEngine.class));
+        final ServerLevel level = Mockito.mock(ServerLevel.class);
+        Mockito.when(level.getServer()).thenReturn(server);
+        Mockito.when(level.getMinBuildHeight()).thenReturn(0);
+        Mockito.when(level.getMaxBuildHeight()).thenReturn(16);
+        Mockito.when(level.getChunkSource()).thenReturn(chunkSource);
+        Mockito.when(level.getChunk(0, 0)).thenReturn(chunk);
+        // ServerLevel#onBlockStateChange is where vanilla adds and removes points of interest.
+        // The position handed over is mutable, so it is copied as it comes in.
+        final List<Change> changes = new ArrayList<>();
+        Mockito.doAnswer(invocation -> changes.add(new Change(invocation.<BlockPos>getArgument(0).immutable(),
+            invocation.getArgument(1), invocation.getArgument(2))))
+            .when(level).onBlockStateChange(Mockito.any(), Mockito.any(), Mockito.any());
+
+        SectionBlockTransfer.copyToWorld(source, level, new Vector3i(4, 2, 5), false);
+
+        Assertions.assertEquals(List.of(
+            new Change(new BlockPos(4, 2, 5), air, bed),
+            new Change(new BlockPos(6, 2, 5), stone, bed)
+        ), changes, "Every changed block, and only those, should have its points of interest updated");
+        Mockito.verify(chunkSource, Mockito.times(2)).blockChanged(Mockito.any());
+        Mockito.verify(chunk).setUnsaved(true);
+    }
+}